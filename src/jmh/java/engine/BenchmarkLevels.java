@@ -0,0 +1,65 @@
+package engine;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import parser.LevelCreator;
+import timer.PowerUpTimer;
+import timer.SimulatedClock;
+import tiles.TileType;
+import wrappers.ReaderWrapper;
+
+public final class BenchmarkLevels {
+
+	private static final int WALL_SPACING = 7;
+	private static final int ENEMY_SPACING = 8;
+
+	private BenchmarkLevels() {
+	}
+
+	public static String create(int size) {
+		StringBuilder level = new StringBuilder(size * (size + 1));
+		for (int y = 0; y < size; y++) {
+			for (int x = 0; x < size; x++) {
+				level.append(tileAt(x, y, size).getChar());
+			}
+			level.append('\n');
+		}
+		return level.toString();
+	}
+
+	public static GameEngine createGameEngine(String level, SimulatedClock clock) {
+		LevelCreator levelCreator = new LevelCreator("", new InMemoryReaderWrapper(level));
+		return new GameEngine(levelCreator, clock, new PowerUpTimer(clock));
+	}
+
+	private static TileType tileAt(int x, int y, int size) {
+		if (x == 0 || y == 0 || x == size - 1 || y == size - 1) {
+			return TileType.NOT_PASSABLE;
+		}
+		if (x == 1 && y == 1) {
+			return TileType.PLAYER;
+		}
+		if (x % ENEMY_SPACING == 4 && y == size / 2) {
+			return TileType.ENEMY;
+		}
+		if (x % WALL_SPACING == 0 && y % WALL_SPACING == 0) {
+			return TileType.NOT_PASSABLE;
+		}
+		return TileType.PASSABLE;
+	}
+
+	private static final class InMemoryReaderWrapper extends ReaderWrapper {
+
+		private final String level;
+
+		InMemoryReaderWrapper(String level) {
+			this.level = level;
+		}
+
+		@Override
+		public BufferedReader createBufferedReader(String fileName) {
+			return new BufferedReader(new StringReader(level));
+		}
+	}
+}
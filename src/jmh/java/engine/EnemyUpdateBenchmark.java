@@ -0,0 +1,73 @@
+package engine;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import tiles.TileGrid;
+import tiles.TileType;
+import values.TunableParameters;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EnemyUpdateBenchmark {
+
+	private static final int LEVEL_WIDTH = 2048;
+	private static final int LEVEL_HEIGHT = 512;
+
+	@Param({ "16384", "131072" })
+	public int enemyCount;
+
+	@Param({ "0", "1", "2", "4", "8" })
+	public int threads;
+
+	private TileGrid tiles;
+	private Enemies enemies;
+	private ForkJoinPool pool;
+	private long currentTime;
+
+	@Setup(Level.Trial)
+	public void createLevel() {
+		Random random = new Random(42);
+		tiles = new TileGrid(LEVEL_WIDTH, LEVEL_HEIGHT);
+		for (int y = 0; y < LEVEL_HEIGHT; y++) {
+			for (int x = 0; x < LEVEL_WIDTH; x++) {
+				tiles.set(x, y, random.nextInt(8) == 0 ? TileType.NOT_PASSABLE : TileType.PASSABLE);
+			}
+		}
+		enemies = new Enemies();
+		for (int i = 0; i < enemyCount; i++) {
+			enemies.add(random.nextInt(LEVEL_WIDTH), random.nextInt(LEVEL_HEIGHT));
+		}
+		pool = threads == 0 ? null : new ForkJoinPool(threads);
+	}
+
+	@TearDown(Level.Trial)
+	public void shutdownPool() {
+		if (pool != null) {
+			pool.shutdown();
+		}
+	}
+
+	@Benchmark
+	public void updateEnemies() {
+		currentTime += TunableParameters.MOVE_DELAY;
+		if (pool == null) {
+			enemies.update(tiles, LEVEL_HEIGHT, LEVEL_WIDTH, currentTime);
+		} else {
+			enemies.updateParallel(tiles, LEVEL_HEIGHT, LEVEL_WIDTH, currentTime, pool);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package engine;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import timer.SimulatedClock;
+import values.TunableParameters;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GameEngineBenchmark {
+
+	private static final int PROBES = 1024;
+
+	@Param({ "64", "512" })
+	public int levelSize;
+
+	@Param({ "10", "1000" })
+	public int collectibles;
+
+	private String level;
+	private SimulatedClock clock;
+	private GameEngine gameEngine;
+	private int[] probeX;
+	private int[] probeY;
+	private int direction = 1;
+
+	@Setup(Level.Trial)
+	public void createLevel() {
+		level = BenchmarkLevels.create(levelSize);
+		clock = new SimulatedClock(0);
+		gameEngine = BenchmarkLevels.createGameEngine(level, clock);
+		gameEngine.addRandomCoins(collectibles);
+		Random random = new Random(42);
+		probeX = new int[PROBES];
+		probeY = new int[PROBES];
+		for (int i = 0; i < PROBES; i++) {
+			probeX[i] = random.nextInt(levelSize);
+			probeY[i] = random.nextInt(levelSize);
+		}
+	}
+
+	@Benchmark
+	public int playerMoves() {
+		gameEngine.playerMoves(direction, 0);
+		direction = -direction;
+		return gameEngine.getPlayerXCoordinate();
+	}
+
+	@Benchmark
+	public void tick() {
+		clock.advance(TunableParameters.MOVE_DELAY);
+		gameEngine.tick(clock.currentTimeMillis());
+	}
+
+	@Benchmark
+	public int enemyMovements() {
+		clock.advance(TunableParameters.MOVE_DELAY);
+		Enemy enemy = gameEngine.getEnemy();
+		enemy.enemyMovements(gameEngine.getTiles(), gameEngine.getLevelVerticalDimension(),
+				gameEngine.getLevelHorizontalDimension());
+		return enemy.getY();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(PROBES)
+	public void isCoinAtPosition(Blackhole blackhole) {
+		for (int i = 0; i < PROBES; i++) {
+			blackhole.consume(gameEngine.isCoinAtPosition(probeX[i], probeY[i]));
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class FreshEngine {
+
+		private GameEngine gameEngine;
+
+		@Setup(Level.Invocation)
+		public void createGameEngine(GameEngineBenchmark benchmark) {
+			gameEngine = BenchmarkLevels.createGameEngine(benchmark.level, new SimulatedClock(0));
+		}
+	}
+
+	@Benchmark
+	public int addRandomCollectibles(FreshEngine freshEngine) {
+		freshEngine.gameEngine.addRandomCoins(collectibles);
+		return freshEngine.gameEngine.getCoins().size();
+	}
+}
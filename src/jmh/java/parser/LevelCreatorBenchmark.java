@@ -0,0 +1,58 @@
+package parser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import engine.BenchmarkLevels;
+import engine.GameEngine;
+import timer.PowerUpTimer;
+import timer.SimulatedClock;
+import values.TunableParameters;
+import wrappers.ReaderWrapper;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LevelCreatorBenchmark {
+
+	@Param({ "64", "512" })
+	public int levelSize;
+
+	private Path directory;
+	private LevelCreator levelCreator;
+	private SimulatedClock clock;
+
+	@Setup(Level.Trial)
+	public void writeLevel() throws IOException {
+		directory = Files.createTempDirectory("level-benchmark");
+		Files.write(directory.resolve(1 + TunableParameters.FILE_NAME_SUFFIX),
+				BenchmarkLevels.create(levelSize).getBytes(StandardCharsets.US_ASCII));
+		levelCreator = new LevelCreator(directory.toString() + "/", new ReaderWrapper());
+		clock = new SimulatedClock(0);
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteLevel() throws IOException {
+		Files.deleteIfExists(directory.resolve(1 + TunableParameters.FILE_NAME_SUFFIX));
+		Files.deleteIfExists(directory);
+	}
+
+	@Benchmark
+	public GameEngine createLevel() {
+		return new GameEngine(levelCreator, clock, new PowerUpTimer(clock));
+	}
+}
@@ -0,0 +1,64 @@
+package ui;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import engine.BenchmarkLevels;
+import engine.GameEngine;
+import timer.SimulatedClock;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RenderBenchmark {
+
+	private static final int TILE_SIZE = 2;
+
+	@Param({ "64", "512" })
+	public int levelSize;
+
+	private GameEngine gameEngine;
+	private TilePainter tilePainter;
+	private RasterRenderer rasterRenderer;
+	private BufferedImage screen;
+	private Graphics graphics;
+
+	@Setup(Level.Trial)
+	public void createLevel() {
+		gameEngine = BenchmarkLevels.createGameEngine(BenchmarkLevels.create(levelSize), new SimulatedClock(0));
+		gameEngine.addRandomCoins(levelSize);
+		tilePainter = new TilePainter();
+		rasterRenderer = new RasterRenderer();
+		screen = new BufferedImage(levelSize * TILE_SIZE, levelSize * TILE_SIZE, BufferedImage.TYPE_INT_RGB);
+		graphics = screen.getGraphics();
+	}
+
+	@TearDown(Level.Trial)
+	public void disposeGraphics() {
+		graphics.dispose();
+	}
+
+	@Benchmark
+	public BufferedImage paintTiles() {
+		tilePainter.paintTiles(graphics, gameEngine, TILE_SIZE, TILE_SIZE);
+		return screen;
+	}
+
+	@Benchmark
+	public BufferedImage rasterRender() {
+		graphics.drawImage(rasterRenderer.render(gameEngine, TILE_SIZE, TILE_SIZE), 0, 0, null);
+		return screen;
+	}
+}
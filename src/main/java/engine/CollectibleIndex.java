@@ -0,0 +1,74 @@
+package engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import tiles.GridArrays;
+
+class CollectibleIndex<T extends Collectible> {
+
+	private static final int EMPTY_SLOT = 0;
+	private final List<T> items = new ArrayList<>();
+	private final List<T> readOnlyItems = Collections.unmodifiableList(items);
+	private int[] slots = new int[0];
+	private int capacityWidth;
+	private int capacityHeight;
+
+	List<T> getItems() {
+		return readOnlyItems;
+	}
+
+	int size() {
+		return items.size();
+	}
+
+	boolean contains(int x, int y) {
+		return slotAt(x, y) != EMPTY_SLOT;
+	}
+
+	void add(T item) {
+		int x = item.getX();
+		int y = item.getY();
+		if (x < 0 || y < 0) {
+			throw new IllegalArgumentException("Cannot index a collectible at (" + x + ", " + y + ").");
+		}
+		ensureCapacity(x + 1, y + 1);
+		items.add(item);
+		slots[y * capacityWidth + x] = items.size();
+	}
+
+	boolean remove(int x, int y) {
+		int slot = slotAt(x, y);
+		if (slot == EMPTY_SLOT) {
+			return false;
+		}
+		int index = slot - 1;
+		int lastIndex = items.size() - 1;
+		T last = items.remove(lastIndex);
+		if (index != lastIndex) {
+			items.set(index, last);
+			slots[last.getY() * capacityWidth + last.getX()] = slot;
+		}
+		slots[y * capacityWidth + x] = EMPTY_SLOT;
+		return true;
+	}
+
+	private int slotAt(int x, int y) {
+		if (x < 0 || y < 0 || x >= capacityWidth || y >= capacityHeight) {
+			return EMPTY_SLOT;
+		}
+		return slots[y * capacityWidth + x];
+	}
+
+	private void ensureCapacity(int requiredWidth, int requiredHeight) {
+		if (requiredWidth <= capacityWidth && requiredHeight <= capacityHeight) {
+			return;
+		}
+		int newCapacityWidth = GridArrays.grownCapacity(requiredWidth, capacityWidth);
+		int newCapacityHeight = GridArrays.grownCapacity(requiredHeight, capacityHeight);
+		slots = GridArrays.resize(slots, capacityWidth, capacityHeight, newCapacityWidth, newCapacityHeight);
+		capacityWidth = newCapacityWidth;
+		capacityHeight = newCapacityHeight;
+	}
+}
@@ -0,0 +1,5 @@
+package engine;
+
+public interface CollisionListener {
+	void onCollision(int enteringEntity, int occupyingEntity);
+}
@@ -0,0 +1,319 @@
+package engine;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import tiles.Cell;
+import tiles.TileGrid;
+import tiles.TileStore;
+import tiles.TileType;
+import values.TunableParameters;
+
+public class Enemies {
+
+	private static final byte UP = -1;
+	private static final byte DOWN = 1;
+	private static final byte NOT_DUE = 0;
+	private static final byte HOLD = 1;
+	private static final byte MOVE = 2;
+	private static final byte SHIFT = 3;
+	private static final byte RECHECK = 4;
+	private static final int MIN_BAND_COLUMNS = 16;
+	private static final int BANDS_PER_THREAD = 4;
+	private int[] x = new int[0];
+	private int[] y = new int[0];
+	private byte[] direction = new byte[0];
+	private long[] nextMoveTime = new long[0];
+	private int[] bandOrder = new int[0];
+	private int[] bandStart = new int[0];
+	private EnemyBand[] bands = new EnemyBand[0];
+	private int bandColumns;
+	private int bandCount;
+	private int[] entity = new int[0];
+	private int count;
+	private final OccupancyGrid occupancy;
+
+	public Enemies() {
+		this(new OccupancyGrid());
+	}
+
+	public Enemies(OccupancyGrid occupancy) {
+		this.occupancy = occupancy;
+	}
+
+	public int add(int enemyX, int enemyY) {
+		if (count == x.length) {
+			int newLength = Math.max(16, count * 2);
+			x = Arrays.copyOf(x, newLength);
+			y = Arrays.copyOf(y, newLength);
+			direction = Arrays.copyOf(direction, newLength);
+			nextMoveTime = Arrays.copyOf(nextMoveTime, newLength);
+			entity = Arrays.copyOf(entity, newLength);
+		}
+		x[count] = enemyX;
+		y[count] = enemyY;
+		direction[count] = UP;
+		nextMoveTime[count] = TunableParameters.MOVE_DELAY;
+		entity[count] = occupancy.add(EntityKind.ENEMY, enemyX, enemyY);
+		return count++;
+	}
+
+	public void clear() {
+		for (int i = 0; i < count; i++) {
+			occupancy.remove(entity[i]);
+		}
+		count = 0;
+	}
+
+	public int size() {
+		return count;
+	}
+
+	public int getX(int index) {
+		checkIndex(index);
+		return x[index];
+	}
+
+	public int getY(int index) {
+		checkIndex(index);
+		return y[index];
+	}
+
+	public boolean isOccupied(int cellX, int cellY) {
+		return occupancy.contains(cellX, cellY, EntityKind.ENEMY);
+	}
+
+	public void update(TileStore tiles, int levelHeight, int levelWidth, long currentTime) {
+		for (int i = 0; i < count; i++) {
+			apply(i, plan(i, tiles, levelHeight, currentTime), tiles, levelHeight, levelWidth, currentTime);
+		}
+	}
+
+	public void updateParallel(TileGrid tiles, int levelHeight, int levelWidth, long currentTime,
+			ForkJoinPool pool) {
+		if (count < TunableParameters.PARALLEL_ENEMY_UPDATE_THRESHOLD || levelWidth <= 0) {
+			update(tiles, levelHeight, levelWidth, currentTime);
+			return;
+		}
+		occupancy.reserve(levelWidth, levelHeight);
+		partitionByColumn(levelWidth, pool.getParallelism());
+		pool.invoke(new BandTask(this, tiles, levelHeight, levelWidth, currentTime, 0, bandCount));
+		for (int band = 0; band < bandCount; band++) {
+			bands[band].finish(this, tiles);
+		}
+	}
+
+	void update(int index, TileStore tiles, int levelHeight, int levelWidth, long currentTime) {
+		checkIndex(index);
+		apply(index, plan(index, tiles, levelHeight, currentTime), tiles, levelHeight, levelWidth, currentTime);
+	}
+
+	boolean isTimeToMove(int index, long currentTime) {
+		return currentTime >= nextMoveTime[index];
+	}
+
+	static boolean isPositionWithinBounds(int nextY, int levelHeight) {
+		return nextY >= 0 && nextY < levelHeight;
+	}
+
+	private byte plan(int i, TileStore tiles, int levelHeight, long currentTime) {
+		if (!isTimeToMove(i, currentTime)) {
+			return NOT_DUE;
+		}
+		int nextY = y[i] + direction[i];
+		if (!isPositionWithinBounds(nextY, levelHeight)) {
+			return HOLD;
+		}
+		TileType nextTile = tiles.getOrDefault(x[i], nextY, TileType.NOT_PASSABLE);
+		if (isPassable(nextTile)) {
+			return MOVE;
+		} else if (nextTile == TileType.NOT_PASSABLE) {
+			return SHIFT;
+		} else if (nextTile == TileType.ENEMY) {
+			return RECHECK;
+		}
+		return HOLD;
+	}
+
+	private void apply(int i, byte plan, TileStore tiles, int levelHeight, int levelWidth, long currentTime) {
+		if (plan == RECHECK) {
+			plan = plan(i, tiles, levelHeight, currentTime);
+		}
+		if (plan == NOT_DUE) {
+			return;
+		}
+		int currentX = x[i];
+		int currentY = y[i];
+		if (plan == MOVE) {
+			if (tiles.get(currentX, currentY) == TileType.ENEMY) {
+				tiles.set(currentX, currentY, TileType.PASSABLE);
+			}
+			relocate(i, currentX, currentY + direction[i]);
+		} else if (plan == SHIFT) {
+			relocate(i, (currentX + 1) % levelWidth, currentY);
+			direction[i] = direction[i] == UP ? DOWN : UP;
+		}
+		nextMoveTime[i] = currentTime + TunableParameters.MOVE_DELAY;
+	}
+
+	private static boolean isPassable(TileType tileType) {
+		return tileType == TileType.PASSABLE || tileType == TileType.COIN || tileType == TileType.POWER_UP;
+	}
+
+	private void partitionByColumn(int levelWidth, int parallelism) {
+		int wantedBands = Math.max(1, parallelism * BANDS_PER_THREAD);
+		bandColumns = Math.max(MIN_BAND_COLUMNS, (levelWidth + wantedBands - 1) / wantedBands);
+		bandCount = (levelWidth + bandColumns - 1) / bandColumns;
+		if (bands.length < bandCount) {
+			bands = Arrays.copyOf(bands, bandCount);
+			bandStart = new int[bandCount + 1];
+		}
+		if (bandOrder.length < count) {
+			bandOrder = new int[x.length];
+		}
+		Arrays.fill(bandStart, 0);
+		for (int i = 0; i < count; i++) {
+			bandStart[bandOf(x[i]) + 1]++;
+		}
+		for (int band = 0; band < bandCount; band++) {
+			bandStart[band + 1] += bandStart[band];
+			if (bands[band] == null) {
+				bands[band] = new EnemyBand();
+			}
+		}
+		int[] next = Arrays.copyOf(bandStart, bandCount);
+		for (int i = 0; i < count; i++) {
+			bandOrder[next[bandOf(x[i])]++] = i;
+		}
+	}
+
+	private int bandOf(int column) {
+		return Math.max(0, Math.min(column / bandColumns, bandCount - 1));
+	}
+
+	private void updateBand(int band, TileStore tiles, int levelHeight, int levelWidth, long currentTime) {
+		EnemyBand enemyBand = bands[band];
+		for (int k = bandStart[band]; k < bandStart[band + 1]; k++) {
+			int i = bandOrder[k];
+			byte plan = plan(i, tiles, levelHeight, currentTime);
+			if (plan == RECHECK && enemyBand.hasVacated(x[i], y[i] + direction[i])) {
+				plan = MOVE;
+			}
+			if (plan == NOT_DUE) {
+				continue;
+			}
+			int currentX = x[i];
+			int currentY = y[i];
+			if (plan == MOVE) {
+				if (tiles.get(currentX, currentY) == TileType.ENEMY) {
+					enemyBand.vacate(currentX, currentY);
+				}
+				x[i] = currentX;
+				y[i] = currentY + direction[i];
+				occupancy.move(entity[i], currentX, y[i], enemyBand.log);
+			} else if (plan == SHIFT) {
+				x[i] = (currentX + 1) % levelWidth;
+				if (bandOf(x[i]) == band) {
+					occupancy.move(entity[i], x[i], currentY, enemyBand.log);
+				} else {
+					enemyBand.deferMove(i);
+				}
+				direction[i] = direction[i] == UP ? DOWN : UP;
+			}
+			nextMoveTime[i] = currentTime + TunableParameters.MOVE_DELAY;
+		}
+	}
+
+	private void relocate(int i, int newX, int newY) {
+		x[i] = newX;
+		y[i] = newY;
+		occupancy.move(entity[i], newX, newY);
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= count) {
+			throw new IndexOutOfBoundsException("Enemy " + index + " of " + count);
+		}
+	}
+
+	private static final class EnemyBand {
+
+		private final OccupancyLog log = new OccupancyLog();
+		private long[] vacated = new long[16];
+		private int vacatedCount;
+		private int[] deferred = new int[16];
+		private int deferredCount;
+
+		boolean hasVacated(int cellX, int cellY) {
+			long cell = Cell.pack(cellX, cellY);
+			for (int i = 0; i < vacatedCount; i++) {
+				if (vacated[i] == cell) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		void vacate(int cellX, int cellY) {
+			if (vacatedCount == vacated.length) {
+				vacated = Arrays.copyOf(vacated, vacatedCount * 2);
+			}
+			vacated[vacatedCount++] = Cell.pack(cellX, cellY);
+		}
+
+		void deferMove(int index) {
+			if (deferredCount == deferred.length) {
+				deferred = Arrays.copyOf(deferred, deferredCount * 2);
+			}
+			deferred[deferredCount++] = index;
+		}
+
+		void finish(Enemies enemies, TileGrid tiles) {
+			for (int i = 0; i < vacatedCount; i++) {
+				tiles.set(Cell.x(vacated[i]), Cell.y(vacated[i]), TileType.PASSABLE);
+			}
+			enemies.occupancy.replay(log);
+			for (int i = 0; i < deferredCount; i++) {
+				int index = deferred[i];
+				enemies.occupancy.move(enemies.entity[index], enemies.x[index], enemies.y[index]);
+			}
+			vacatedCount = 0;
+			deferredCount = 0;
+		}
+	}
+
+	private static final class BandTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+		private final transient Enemies enemies;
+		private final transient TileStore tiles;
+		private final int levelHeight;
+		private final int levelWidth;
+		private final long currentTime;
+		private final int from;
+		private final int to;
+
+		BandTask(Enemies enemies, TileStore tiles, int levelHeight, int levelWidth, long currentTime, int from,
+				int to) {
+			this.enemies = enemies;
+			this.tiles = tiles;
+			this.levelHeight = levelHeight;
+			this.levelWidth = levelWidth;
+			this.currentTime = currentTime;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				enemies.updateBand(from, tiles, levelHeight, levelWidth, currentTime);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new BandTask(enemies, tiles, levelHeight, levelWidth, currentTime, from, middle),
+					new BandTask(enemies, tiles, levelHeight, levelWidth, currentTime, middle, to));
+		}
+	}
+}
@@ -1,96 +1,42 @@
 package engine;
 
-import java.awt.*;
-import java.util.Map;
-
-import tiles.TileType;
-import values.TunableParameters;
+import tiles.TileStore;
 import wrappers.SystemWrapper;
 
 public class Enemy {
-	private long lastMoveTime = 0;
-	private Point position;
-	private boolean movingUp = true;
+	private final Enemies enemies;
+	private final int index;
 	private SystemWrapper systemWrapper;
 
 	public Enemy(int x, int y, SystemWrapper systemWrapper) {
-		this.position = new Point(x, y);
+		this.enemies = new Enemies();
+		this.index = enemies.add(x, y);
 		this.systemWrapper = systemWrapper;
 	}
 
-	public int getX() {
-		return (int) position.getX();
-	}
-
-	public int getY() {
-		return (int) position.getY();
+	Enemy(Enemies enemies, int index, SystemWrapper systemWrapper) {
+		this.enemies = enemies;
+		this.index = index;
+		this.systemWrapper = systemWrapper;
 	}
 
-	public void enemyMovements(Map<Point, TileType> tiles, int levelHeight, int levelWidth) {
-		long currentTime = systemWrapper.currentTimeMillis();
-		if (!isTimeToMove(currentTime)) {
-			return;
-		}
-		int currentX = getX();
-		int currentY = getY();
-		int nextY = calculateNextY(currentY);
-
-		if (isPositionWithinBounds(nextY, levelHeight)) {
-			handleMovement(tiles, levelWidth, currentX, currentY, nextY);
-		}
-		lastMoveTime = currentTime;
+	public int getX() {
+		return enemies.getX(index);
 	}
 
-	private void handleMovement(Map<Point, TileType> tiles, int levelWidth, int currentX, int currentY, int nextY) {
-		Point nextPosition = new Point(currentX, nextY);
-		TileType nextTile = getTileType(tiles, nextPosition);
-
-		if (isPassable(nextTile)) {
-			moveToNextPosition(tiles, nextPosition);
-		} else if (isNotPassable(nextTile)) {
-			handleNotPassableTile(currentX, currentY, levelWidth);
-		}
+	public int getY() {
+		return enemies.getY(index);
 	}
 
-	private void moveToNextPosition(Map<Point, TileType> tiles, Point nextPosition) {
-		updateTileToPassable(tiles);
-		position.setLocation(nextPosition);
+	public void enemyMovements(TileStore tiles, int levelHeight, int levelWidth) {
+		enemies.update(index, tiles, levelHeight, levelWidth, systemWrapper.currentTimeMillis());
 	}
 
 	boolean isTimeToMove(long currentTime) {
-		return currentTime - lastMoveTime >= TunableParameters.MOVE_DELAY;
-	}
-
-	private int calculateNextY(int currentY) {
-		return movingUp ? currentY - 1 : currentY + 1;
+		return enemies.isTimeToMove(index, currentTime);
 	}
 
 	boolean isPositionWithinBounds(int nextY, int levelHeight) {
-		return nextY >= 0 && nextY < levelHeight;
-	}
-
-	private TileType getTileType(Map<Point, TileType> tiles, Point position) {
-		return tiles.getOrDefault(position, TileType.NOT_PASSABLE);
-	}
-
-	private boolean isPassable(TileType tileType) {
-		return tileType == TileType.PASSABLE || tileType == TileType.COIN || tileType == TileType.POWER_UP;
-	}
-
-	private void updateTileToPassable(Map<Point, TileType> tiles) {
-		TileType currentTileType = getTileType(tiles, position);
-		if (currentTileType == TileType.ENEMY) {
-			tiles.put(position, TileType.PASSABLE);
-		}
-	}
-
-	private boolean isNotPassable(TileType tileType) {
-		return tileType == TileType.NOT_PASSABLE;
-	}
-
-	private void handleNotPassableTile(int currentX, int currentY, int levelWidth) {
-		int newX = (currentX + 1) % levelWidth;
-		position.setLocation(newX, currentY);
-		movingUp = !movingUp;
+		return Enemies.isPositionWithinBounds(nextY, levelHeight);
 	}
-}
\ No newline at end of file
+}
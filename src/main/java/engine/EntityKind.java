@@ -0,0 +1,5 @@
+package engine;
+
+public enum EntityKind {
+	PLAYER, ENEMY, COIN, POWER_UP
+}
@@ -1,90 +1,173 @@
 package engine;
 
-import java.awt.*;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 import parser.LevelCreator;
+import tiles.Cell;
+import tiles.DirtyCells;
+import tiles.TileGrid;
 import tiles.TileType;
 import timer.PowerUpTimer;
-import ui.GameFrame;
+import timer.TickPhase;
+import timer.TickProfiler;
 import values.TunableParameters;
 import wrappers.SystemWrapper;
 
 public class GameEngine {
 
+	public static final int FIRST_LEVEL = 1;
 	private static final String COIN = "Coin";
 	private static final String POWER_UP = "PowerUp";
-	protected final Map<Point, TileType> tiles = new HashMap<>();
+	protected final TileGrid tiles = new TileGrid();
 	private final LevelCreator levelCreator;
 	private final int level;
-	private List<Coin> coins = new ArrayList<>();
-	private boolean exit;
+	private final Random random = new Random();
+	private final CollectibleIndex<Coin> coins = new CollectibleIndex<>();
+	private volatile boolean exit;
 	private int levelHorizontalDimension;
 	private int levelVerticalDimension;
-	private Point player;
+	private long playerCell;
+	private int playerEntity = OccupancyGrid.NO_ENTITY;
+	private final OccupancyGrid occupancy = new OccupancyGrid();
+	private final DirtyCells publishedChanges = new DirtyCells();
+	private DirtyCells changedCells;
 	private int collectedCoins = 0;
+	private final Enemies enemies = new Enemies(occupancy);
 	private Enemy enemy;
-	private List<PowerUp> powerUpPositions = new ArrayList<>();
+	private ForkJoinPool enemyUpdatePool;
+	private final List<TickListener> tickListeners = new ArrayList<>();
+	private final InputQueue inputQueue = new InputQueue(TunableParameters.INPUT_QUEUE_CAPACITY);
+	private final Consumer<InputCommand> inputHandler = this::applyInput;
+	private final CollectibleIndex<PowerUp> powerUpPositions = new CollectibleIndex<>();
 	private int collectedPowerUps = 0;
 	private PowerUpTimer powerUpTimer;
 	private SystemWrapper systemWrapper;
+	private TickProfiler tickProfiler;
 
 	public GameEngine(LevelCreator levelCreator, SystemWrapper systemWrapper, PowerUpTimer powerUpTimer) {
 		exit = false;
-		level = 1;
+		level = FIRST_LEVEL;
 		this.levelCreator = levelCreator;
 		this.systemWrapper = systemWrapper;
+		occupancy.addCollisionListener(this::handleCollision);
 		this.levelCreator.createLevel(this, level);
-		initializeEnemy(8, levelVerticalDimension - 3);
+		if (enemies.size() == 0) {
+			initializeEnemy(8, levelVerticalDimension - 3);
+		}
 		this.powerUpTimer = powerUpTimer;
 	}
 
-	public void run(GameFrame gameFrame) {
-		enemy.enemyMovements(tiles, levelVerticalDimension, levelHorizontalDimension);
-		checkForEnemyPlayerCollision();
-		for (Component component : gameFrame.getComponents()) {
-			component.repaint();
+	public void tick() {
+		tick(systemWrapper.currentTimeMillis());
+	}
+
+	public void tick(long currentTime) {
+		if (tickProfiler == null) {
+			inputQueue.drain(inputHandler);
+			updateEnemies(currentTime);
+		} else {
+			long start = tickProfiler.startExclusive();
+			inputQueue.drain(inputHandler);
+			start = tickProfiler.recordExclusive(TickPhase.INPUT_DRAIN, start);
+			updateEnemies(currentTime);
+			tickProfiler.recordExclusive(TickPhase.ENEMY_UPDATE, start);
+		}
+		for (int i = 0; i < tickListeners.size(); i++) {
+			tickListeners.get(i).onTick(this);
+		}
+		publishChanges();
+	}
+
+	public void addTickListener(TickListener tickListener) {
+		tickListeners.add(tickListener);
+	}
+
+	public void removeTickListener(TickListener tickListener) {
+		tickListeners.remove(tickListener);
+	}
+
+	private void updateEnemies(long currentTime) {
+		if (enemyUpdatePool == null) {
+			enemies.update(tiles, levelVerticalDimension, levelHorizontalDimension, currentTime);
+		} else {
+			enemies.updateParallel(tiles, levelVerticalDimension, levelHorizontalDimension, currentTime,
+					enemyUpdatePool);
 		}
 	}
 
+	public void setEnemyUpdatePool(ForkJoinPool enemyUpdatePool) {
+		this.enemyUpdatePool = enemyUpdatePool;
+	}
+
+	public void setTickProfiler(TickProfiler tickProfiler) {
+		this.tickProfiler = tickProfiler;
+	}
+
+	public TickProfiler getTickProfiler() {
+		return tickProfiler;
+	}
+
 	public void addTile(int x, int y, TileType tileType) {
 		if (tileType.equals(TileType.PLAYER)) {
 			setPlayer(x, y);
-			tiles.put(new Point(x, y), TileType.PASSABLE);
+			tiles.set(x, y, TileType.PASSABLE);
+		} else if (tileType.equals(TileType.ENEMY)) {
+			addEnemy(x, y);
 		} else {
-			tiles.put(new Point(x, y), tileType);
+			tiles.set(x, y, tileType);
 		}
 	}
 
 	public void playerMoves(int xMove, int yMove) {
+		movePlayer(xMove, yMove);
+	}
+
+	public MoveResult movePlayer(int xMove, int yMove) {
 		int moveFactor = isPlayerDoubleMoveActive() ? 2 : 1;
-		int newX = getPlayerXCoordinate() + xMove * moveFactor;
-		int newY = getPlayerYCoordinate() + yMove * moveFactor;
-		if (Math.abs(newX - getPlayerXCoordinate()) > 2) {
-			newX = getPlayerXCoordinate() + 2 * Integer.signum(xMove);
-		}
-		if (Math.abs(newY - getPlayerYCoordinate()) > 2) {
-			newY = getPlayerYCoordinate() + 2 * Integer.signum(yMove);
-		}
-		if (doubleMoveValid(xMove, yMove, moveFactor, getPlayerXCoordinate(), getPlayerYCoordinate())) {
-			handleTileAction(newX, newY);
+		if (!doubleMoveValid(xMove, yMove, moveFactor)) {
+			return MoveResult.INVALID;
 		}
+		long nextCell = Cell.pack(getPlayerXCoordinate() + xMove * moveFactor,
+				getPlayerYCoordinate() + yMove * moveFactor);
+		return handleTileAction(nextCell);
 	}
 
-	private void handleTileAction(int newX, int newY) {
+	private MoveResult handleTileAction(long nextCell) {
+		int newX = Cell.x(nextCell);
+		int newY = Cell.y(nextCell);
 		TileType nextTile = getTileFromCoordinates(newX, newY);
 
-		if (nextTile.equals(TileType.PASSABLE) || nextTile.equals(TileType.COIN)
-				|| nextTile.equals(TileType.POWER_UP)) {
-			setPlayer(newX, newY);
+		if (nextTile != TileType.PASSABLE && nextTile != TileType.COIN && nextTile != TileType.POWER_UP) {
+			return MoveResult.BLOCKED;
+		}
+		setPlayer(newX, newY);
+		return MoveResult.MOVED;
+	}
+
+	private void handleCollision(int enteringEntity, int occupyingEntity) {
+		if (tickProfiler == null) {
+			resolveCollision(enteringEntity, occupyingEntity);
+		} else {
+			long start = tickProfiler.start();
+			resolveCollision(enteringEntity, occupyingEntity);
+			tickProfiler.recordNested(TickPhase.COLLISION, start);
 		}
-		if (nextTile.equals(TileType.COIN)) {
-			collectItem(newX, newY, COIN);
-		} else if (nextTile.equals(TileType.POWER_UP)) {
-			collectItem(newX, newY, POWER_UP);
+	}
+
+	private void resolveCollision(int enteringEntity, int occupyingEntity) {
+		EntityKind entering = occupancy.getKind(enteringEntity);
+		EntityKind occupying = occupancy.getKind(occupyingEntity);
+		if (entering == EntityKind.PLAYER && occupying == EntityKind.COIN) {
+			collectItem(occupancy.getX(occupyingEntity), occupancy.getY(occupyingEntity), COIN);
+		} else if (entering == EntityKind.PLAYER && occupying == EntityKind.POWER_UP) {
+			collectItem(occupancy.getX(occupyingEntity), occupancy.getY(occupyingEntity), POWER_UP);
+		} else if (entering == EntityKind.PLAYER && occupying == EntityKind.ENEMY
+				|| entering == EntityKind.ENEMY && occupying == EntityKind.PLAYER) {
+			setExit(true);
 		}
 	}
 
@@ -105,19 +188,52 @@ public class GameEngine {
 	}
 
 	public TileType getTileFromCoordinates(int x, int y) {
-		return tiles.get(new Point(x, y));
+		return tiles.get(x, y);
+	}
+
+	public TileGrid getTiles() {
+		return tiles;
 	}
 
 	public void setPlayer(int x, int y) {
-		player = new Point(x, y);
+		playerCell = Cell.pack(x, y);
+		if (playerEntity == OccupancyGrid.NO_ENTITY) {
+			playerEntity = occupancy.add(EntityKind.PLAYER, x, y);
+		} else {
+			occupancy.move(playerEntity, x, y);
+		}
+	}
+
+	public long getPlayerCell() {
+		return playerCell;
 	}
 
 	public int getPlayerXCoordinate() {
-		return (int) player.getX();
+		return Cell.x(playerCell);
 	}
 
 	public int getPlayerYCoordinate() {
-		return (int) player.getY();
+		return Cell.y(playerCell);
+	}
+
+	public boolean submitInput(InputCommand command) {
+		return inputQueue.offer(command);
+	}
+
+	public InputQueue getInputQueue() {
+		return inputQueue;
+	}
+
+	private void applyInput(InputCommand command) {
+		if (command == InputCommand.LEFT) {
+			keyLeft();
+		} else if (command == InputCommand.RIGHT) {
+			keyRight();
+		} else if (command == InputCommand.UP) {
+			keyUp();
+		} else if (command == InputCommand.DOWN) {
+			keyDown();
+		}
 	}
 
 	public void keyLeft() {
@@ -150,13 +266,14 @@ public class GameEngine {
 	public void addCollectible(int x, int y, Collectible collectible) {
 		validatePlacement(x, y, collectible);
 
+		placeTile(x, y, collectible.getTileType());
 		if (collectible instanceof Coin) {
 			coins.add((Coin) collectible);
+			occupancy.add(EntityKind.COIN, x, y);
 		} else if (collectible instanceof PowerUp) {
 			powerUpPositions.add((PowerUp) collectible);
+			occupancy.add(EntityKind.POWER_UP, x, y);
 		}
-
-		placeTile(x, y, collectible.getTileType());
 	}
 
 	private void validatePlacement(int x, int y, Collectible collectible) {
@@ -207,11 +324,11 @@ public class GameEngine {
 	}
 
 	public List<Coin> getCoins() {
-		return coins;
+		return coins.getItems();
 	}
 
 	public List<PowerUp> getPowerUps() {
-		return powerUpPositions;
+		return powerUpPositions.getItems();
 	}
 
 	public int getCollectedCoins() {
@@ -222,84 +339,42 @@ public class GameEngine {
 		return collectedPowerUps;
 	}
 
-	private boolean isPositionPresent(int x, int y, List<? extends Collectible> items) {
-		for (Collectible item : items) {
-			if (item.getX() == x && item.getY() == y) {
-				return true;
-			}
-		}
-		return false;
-	}
-
 	public boolean isCoinAtPosition(int x, int y) {
-		return isPositionPresent(x, y, coins);
+		return coins.contains(x, y);
 	}
 
 	public boolean isPowerUpAtPosition(int x, int y) {
-		return isPositionPresent(x, y, powerUpPositions);
+		return powerUpPositions.contains(x, y);
 	}
 
 	public boolean hasEnoughPassableTiles(int requiredPassableTiles) {
-		int passableCount = 0;
-		for (int x = 0; x < levelHorizontalDimension; x++) {
-			for (int y = 0; y < levelVerticalDimension; y++) {
-				passableCount += countPassableTilesAt(x, y);
-				if (passableCount >= requiredPassableTiles) {
-					return true;
-				}
-			}
-		}
-		return false;
-	}
-
-	private int countPassableTilesAt(int x, int y) {
-		TileType tile = getTileFromCoordinates(x, y);
-		int count = 0;
-		if (isTilePassable(tile)) {
-			count++;
-		} else if (isSpecialTile(tile)) {
-			count += checkTileBelowForPassable(x, y);
-		}
-		return count;
-	}
-
-	private boolean isTilePassable(TileType tile) {
-		return tile == TileType.PASSABLE;
-	}
-
-	private boolean isSpecialTile(TileType tile) {
-		return tile == TileType.COIN || tile == TileType.POWER_UP || tile == TileType.ENEMY;
-	}
-
-	private int checkTileBelowForPassable(int x, int y) {
-		TileType tileBelow = getTileFromCoordinates(x, y);
-		return tileBelow == TileType.PASSABLE ? 1 : 0;
+		return tiles.getPassableCount() >= requiredPassableTiles;
 	}
 
 	public void addRandomCollectibles(int numberOfCollectibles, String type) {
 		if (!hasEnoughPassableTiles(numberOfCollectibles)) {
-			System.out
-					.println("There are not enough passable tiles to place " + numberOfCollectibles + " " + type + ".");
+			printNotEnoughPassableTiles(numberOfCollectibles, type);
 			return;
 		}
 
-		int addedCollectibles = 0;
-		while (addedCollectibles < numberOfCollectibles) {
-			int x = (int) (Math.random() * levelHorizontalDimension);
-			int y = (int) (Math.random() * levelVerticalDimension);
-
-			if (getTileFromCoordinates(x, y) == TileType.PASSABLE
-					&& (type.equals(POWER_UP) ? !isPowerUpAtPosition(x, y) : !isCoinAtPosition(x, y))) {
-				if (type.equals(POWER_UP)) {
-					addPowerUp(x, y);
-				} else if (type.equals(COIN)) {
-					addCoin(x, y);
-				}
-				addedCollectibles++;
+		for (int addedCollectibles = 0; addedCollectibles < numberOfCollectibles; addedCollectibles++) {
+			long cell = tiles.randomPassableCell(random, (x, y) -> !occupancy.isOccupied(x, y));
+			if (cell == TileGrid.NO_CELL) {
+				printNotEnoughPassableTiles(numberOfCollectibles, type);
+				return;
+			}
+			if (type.equals(POWER_UP)) {
+				addPowerUp(Cell.x(cell), Cell.y(cell));
+			} else if (type.equals(COIN)) {
+				addCoin(Cell.x(cell), Cell.y(cell));
 			}
 		}
 	}
 
+	private void printNotEnoughPassableTiles(int numberOfCollectibles, String type) {
+		System.out.println("There are not enough passable tiles to place " + numberOfCollectibles + " " + type + ".");
+	}
+
 	public void addRandomPowerUps(int numberOfPowerUps) {
 		addRandomCollectibles(numberOfPowerUps, POWER_UP);
 	}
@@ -327,26 +402,27 @@ public class GameEngine {
 
 	public boolean isCollectItemAtPosition(int x, int y, String itemType) {
 		if (itemType.equals(COIN)) {
-			for (Coin coin : coins) {
-				if (coin.getX() == x && coin.getY() == y) {
-					return true;
-				}
-			}
+			return isCoinAtPosition(x, y);
 		} else if (itemType.equals(POWER_UP)) {
-			for (PowerUp powerUp : powerUpPositions) {
-				if (powerUp.getX() == x && powerUp.getY() == y) {
-					return true;
-				}
-			}
+			return isPowerUpAtPosition(x, y);
 		}
 		return false;
 	}
 
 	private void removeItemAtPosition(int x, int y, String itemType) {
 		if (itemType.equals(COIN)) {
-			coins.removeIf(coin -> coin.getX() == x && coin.getY() == y);
+			coins.remove(x, y);
+			removeOccupant(x, y, EntityKind.COIN);
 		} else if (itemType.equals(POWER_UP)) {
-			powerUpPositions.removeIf(powerUp -> powerUp.getX() == x && powerUp.getY() == y);
+			powerUpPositions.remove(x, y);
+			removeOccupant(x, y, EntityKind.POWER_UP);
+		}
+	}
+
+	private void removeOccupant(int x, int y, EntityKind entityKind) {
+		int entity = occupancy.find(x, y, entityKind);
+		if (entity != OccupancyGrid.NO_ENTITY) {
+			occupancy.remove(entity);
 		}
 	}
 
@@ -382,15 +458,9 @@ public class GameEngine {
 		}
 	}
 
-	private boolean doubleMoveValid(int xMove, int yMove, int moveFactor, int playerX, int playerY) {
+	private boolean doubleMoveValid(int xMove, int yMove, int moveFactor) {
 		int maxMove = 2;
-		int totalMoveX = playerX + xMove * moveFactor;
-		int totalMoveY = playerY + yMove * moveFactor;
-		if (Math.abs(totalMoveX - playerX) > maxMove || Math.abs(totalMoveY - playerY) > maxMove) {
-			String errorMessage = String.format("Move exceeds 2 steps. Attempted X Move: %d, Y Move: %d", xMove, yMove);
-			throw new IllegalArgumentException(errorMessage);
-		}
-		return true;
+		return Math.abs(xMove * moveFactor) <= maxMove && Math.abs(yMove * moveFactor) <= maxMove;
 	}
 
 	public boolean isPlayerDoubleMoveActive() {
@@ -398,17 +468,60 @@ public class GameEngine {
 	}
 
 	public void initializeEnemy(int x, int y) {
-		this.enemy = new Enemy(x, y, systemWrapper);
-		tiles.put(new Point(x, y), TileType.ENEMY);
+		enemies.clear();
+		addEnemy(x, y);
+	}
+
+	public void addEnemy(int x, int y) {
+		int index = enemies.add(x, y);
+		if (index == 0) {
+			enemy = new Enemy(enemies, index, systemWrapper);
+		}
+		tiles.set(x, y, TileType.ENEMY);
 	}
 
 	public Enemy getEnemy() {
 		return enemy;
 	}
 
-	void checkForEnemyPlayerCollision() {
-		if (enemy.getX() == getPlayerXCoordinate() && enemy.getY() == getPlayerYCoordinate()) {
-			setExit(true);
+	public Enemies getEnemies() {
+		return enemies;
+	}
+
+	public OccupancyGrid getOccupancy() {
+		return occupancy;
+	}
+
+	public void trackChanges() {
+		if (changedCells == null) {
+			changedCells = new DirtyCells();
+			tiles.trackChanges(changedCells);
+			occupancy.trackChanges(changedCells);
+		}
+	}
+
+	public boolean isTrackingChanges() {
+		return changedCells != null;
+	}
+
+	public void publishChanges() {
+		if (changedCells == null || changedCells.size() == 0) {
+			return;
+		}
+		synchronized (publishedChanges) {
+			changedCells.drainTo(publishedChanges);
+		}
+	}
+
+	public int drainChangesTo(DirtyCells target) {
+		synchronized (publishedChanges) {
+			return publishedChanges.drainTo(target);
+		}
+	}
+
+	public void clearChanges() {
+		synchronized (publishedChanges) {
+			publishedChanges.clear();
 		}
 	}
 }
@@ -0,0 +1,5 @@
+package engine;
+
+public enum InputCommand {
+	LEFT, RIGHT, UP, DOWN
+}
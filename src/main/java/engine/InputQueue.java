@@ -0,0 +1,59 @@
+package engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+public class InputQueue {
+
+	private static final InputCommand[] COMMANDS = InputCommand.values();
+	private final byte[] buffer;
+	private final int mask;
+	private final AtomicLong head = new AtomicLong();
+	private final AtomicLong tail = new AtomicLong();
+	private long cachedHead;
+	private long dropped;
+
+	public InputQueue(int capacity) {
+		if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+		}
+		this.buffer = new byte[capacity];
+		this.mask = capacity - 1;
+	}
+
+	public boolean offer(InputCommand command) {
+		long currentTail = tail.get();
+		if (currentTail - cachedHead >= buffer.length) {
+			cachedHead = head.get();
+			if (currentTail - cachedHead >= buffer.length) {
+				dropped++;
+				return false;
+			}
+		}
+		buffer[(int) currentTail & mask] = (byte) command.ordinal();
+		tail.lazySet(currentTail + 1);
+		return true;
+	}
+
+	public int drain(Consumer<InputCommand> consumer) {
+		long currentHead = head.get();
+		long currentTail = tail.get();
+		for (long i = currentHead; i < currentTail; i++) {
+			consumer.accept(COMMANDS[buffer[(int) i & mask]]);
+		}
+		head.lazySet(currentTail);
+		return (int) (currentTail - currentHead);
+	}
+
+	public int size() {
+		return (int) (tail.get() - head.get());
+	}
+
+	public int capacity() {
+		return buffer.length;
+	}
+
+	public long getDropped() {
+		return dropped;
+	}
+}
@@ -0,0 +1,5 @@
+package engine;
+
+public enum MoveResult {
+	MOVED, BLOCKED, INVALID
+}
@@ -0,0 +1,251 @@
+package engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import tiles.Cell;
+import tiles.DirtyCells;
+import tiles.GridArrays;
+
+public class OccupancyGrid {
+
+	public static final int NO_ENTITY = -1;
+	private static final EntityKind[] KINDS = EntityKind.values();
+	private static final byte FREE = -1;
+	private int[] head = new int[0];
+	private int capacityWidth;
+	private int capacityHeight;
+	private int[] next = new int[0];
+	private int[] entityX = new int[0];
+	private int[] entityY = new int[0];
+	private byte[] kind = new byte[0];
+	private int[] freeIds = new int[0];
+	private int freeCount;
+	private int allocated;
+	private int size;
+	private int[] occupants = new int[0];
+	private final List<CollisionListener> collisionListeners = new ArrayList<>();
+	private DirtyCells changes;
+
+	public int add(EntityKind entityKind, int x, int y) {
+		int entity = allocate();
+		kind[entity] = (byte) entityKind.ordinal();
+		entityX[entity] = x;
+		entityY[entity] = y;
+		next[entity] = NO_ENTITY;
+		size++;
+		enter(entity, x, y);
+		return entity;
+	}
+
+	public void move(int entity, int x, int y) {
+		checkEntity(entity);
+		if (entityX[entity] == x && entityY[entity] == y) {
+			return;
+		}
+		unlink(entity);
+		entityX[entity] = x;
+		entityY[entity] = y;
+		enter(entity, x, y);
+	}
+
+	void move(int entity, int x, int y, OccupancyLog log) {
+		checkEntity(entity);
+		if (entityX[entity] == x && entityY[entity] == y) {
+			return;
+		}
+		if (x < 0 || y < 0 || x >= capacityWidth || y >= capacityHeight) {
+			throw new IllegalStateException("Logged move outside reserved capacity: (" + x + ", " + y + ")");
+		}
+		int oldX = entityX[entity];
+		int oldY = entityY[entity];
+		if (oldX >= 0 && oldY >= 0) {
+			log.markChanged(oldX, oldY);
+			unlinkFrom(entity, oldY * capacityWidth + oldX);
+		}
+		entityX[entity] = x;
+		entityY[entity] = y;
+		log.markChanged(x, y);
+		int cell = y * capacityWidth + x;
+		int first = head[cell] - 1;
+		for (int occupant = first; occupant != NO_ENTITY; occupant = next[occupant]) {
+			log.collide(entity, occupant);
+		}
+		next[entity] = first;
+		head[cell] = entity + 1;
+	}
+
+	void replay(OccupancyLog log) {
+		for (int i = 0; i < log.changedCount(); i++) {
+			markChanged(Cell.x(log.changedCell(i)), Cell.y(log.changedCell(i)));
+		}
+		for (int i = 0; i < log.collisionCount(); i++) {
+			for (int j = 0; j < collisionListeners.size(); j++) {
+				collisionListeners.get(j).onCollision(log.enteringEntity(i), log.occupyingEntity(i));
+			}
+		}
+		log.clear();
+	}
+
+	void reserve(int width, int height) {
+		ensureCapacity(width, height);
+	}
+
+	public void remove(int entity) {
+		checkEntity(entity);
+		unlink(entity);
+		kind[entity] = FREE;
+		if (freeCount == freeIds.length) {
+			freeIds = Arrays.copyOf(freeIds, Math.max(16, freeCount * 2));
+		}
+		freeIds[freeCount++] = entity;
+		size--;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public EntityKind getKind(int entity) {
+		checkEntity(entity);
+		return KINDS[kind[entity]];
+	}
+
+	public int getX(int entity) {
+		checkEntity(entity);
+		return entityX[entity];
+	}
+
+	public int getY(int entity) {
+		checkEntity(entity);
+		return entityY[entity];
+	}
+
+	public boolean contains(int x, int y, EntityKind entityKind) {
+		return find(x, y, entityKind) != NO_ENTITY;
+	}
+
+	public boolean isOccupied(int x, int y) {
+		return headAt(x, y) != NO_ENTITY;
+	}
+
+	public int find(int x, int y, EntityKind entityKind) {
+		byte wanted = (byte) entityKind.ordinal();
+		for (int entity = headAt(x, y); entity != NO_ENTITY; entity = next[entity]) {
+			if (kind[entity] == wanted) {
+				return entity;
+			}
+		}
+		return NO_ENTITY;
+	}
+
+	public void trackChanges(DirtyCells changes) {
+		this.changes = changes;
+	}
+
+	public void addCollisionListener(CollisionListener collisionListener) {
+		collisionListeners.add(collisionListener);
+	}
+
+	public void removeCollisionListener(CollisionListener collisionListener) {
+		collisionListeners.remove(collisionListener);
+	}
+
+	private void enter(int entity, int x, int y) {
+		if (x < 0 || y < 0) {
+			return;
+		}
+		ensureCapacity(x + 1, y + 1);
+		markChanged(x, y);
+		int cell = y * capacityWidth + x;
+		int first = head[cell] - 1;
+		int occupantCount = collectOccupants(first);
+		next[entity] = first;
+		head[cell] = entity + 1;
+		for (int i = 0; i < occupantCount; i++) {
+			int occupant = occupants[i];
+			for (int j = 0; j < collisionListeners.size(); j++) {
+				collisionListeners.get(j).onCollision(entity, occupant);
+			}
+		}
+	}
+
+	private int collectOccupants(int first) {
+		int occupantCount = 0;
+		for (int entity = first; entity != NO_ENTITY; entity = next[entity]) {
+			if (occupantCount == occupants.length) {
+				occupants = Arrays.copyOf(occupants, Math.max(4, occupantCount * 2));
+			}
+			occupants[occupantCount++] = entity;
+		}
+		return occupantCount;
+	}
+
+	private void unlink(int entity) {
+		int x = entityX[entity];
+		int y = entityY[entity];
+		if (x < 0 || y < 0) {
+			return;
+		}
+		markChanged(x, y);
+		unlinkFrom(entity, y * capacityWidth + x);
+	}
+
+	private void unlinkFrom(int entity, int cell) {
+		if (head[cell] - 1 == entity) {
+			head[cell] = next[entity] + 1;
+		} else {
+			int previous = head[cell] - 1;
+			while (next[previous] != entity) {
+				previous = next[previous];
+			}
+			next[previous] = next[entity];
+		}
+		next[entity] = NO_ENTITY;
+	}
+
+	private void markChanged(int x, int y) {
+		if (changes != null) {
+			changes.mark(x, y);
+		}
+	}
+
+	private int headAt(int x, int y) {
+		if (x < 0 || y < 0 || x >= capacityWidth || y >= capacityHeight) {
+			return NO_ENTITY;
+		}
+		return head[y * capacityWidth + x] - 1;
+	}
+
+	private int allocate() {
+		if (freeCount > 0) {
+			return freeIds[--freeCount];
+		}
+		if (allocated == kind.length) {
+			int newLength = Math.max(16, allocated * 2);
+			next = Arrays.copyOf(next, newLength);
+			entityX = Arrays.copyOf(entityX, newLength);
+			entityY = Arrays.copyOf(entityY, newLength);
+			kind = Arrays.copyOf(kind, newLength);
+		}
+		return allocated++;
+	}
+
+	private void checkEntity(int entity) {
+		if (entity < 0 || entity >= allocated || kind[entity] == FREE) {
+			throw new IllegalArgumentException("Unknown entity: " + entity);
+		}
+	}
+
+	private void ensureCapacity(int requiredWidth, int requiredHeight) {
+		if (requiredWidth <= capacityWidth && requiredHeight <= capacityHeight) {
+			return;
+		}
+		int newCapacityWidth = GridArrays.grownCapacity(requiredWidth, capacityWidth);
+		int newCapacityHeight = GridArrays.grownCapacity(requiredHeight, capacityHeight);
+		head = GridArrays.resize(head, capacityWidth, capacityHeight, newCapacityWidth, newCapacityHeight);
+		capacityWidth = newCapacityWidth;
+		capacityHeight = newCapacityHeight;
+	}
+}
@@ -0,0 +1,53 @@
+package engine;
+
+import java.util.Arrays;
+
+import tiles.Cell;
+
+final class OccupancyLog {
+
+	private long[] changedCells = new long[16];
+	private int changedCount;
+	private int[] collisions = new int[16];
+	private int collisionCount;
+
+	void markChanged(int x, int y) {
+		if (changedCount == changedCells.length) {
+			changedCells = Arrays.copyOf(changedCells, changedCount * 2);
+		}
+		changedCells[changedCount++] = Cell.pack(x, y);
+	}
+
+	void collide(int enteringEntity, int occupyingEntity) {
+		if (collisionCount + 2 > collisions.length) {
+			collisions = Arrays.copyOf(collisions, collisions.length * 2);
+		}
+		collisions[collisionCount++] = enteringEntity;
+		collisions[collisionCount++] = occupyingEntity;
+	}
+
+	int changedCount() {
+		return changedCount;
+	}
+
+	long changedCell(int index) {
+		return changedCells[index];
+	}
+
+	int collisionCount() {
+		return collisionCount / 2;
+	}
+
+	int enteringEntity(int index) {
+		return collisions[index * 2];
+	}
+
+	int occupyingEntity(int index) {
+		return collisions[index * 2 + 1];
+	}
+
+	void clear() {
+		changedCount = 0;
+		collisionCount = 0;
+	}
+}
@@ -0,0 +1,5 @@
+package engine;
+
+public interface TickListener {
+	void onTick(GameEngine gameEngine);
+}
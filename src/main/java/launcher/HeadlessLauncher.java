@@ -0,0 +1,59 @@
+package launcher;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import engine.GameEngine;
+import main.HeadlessSimulation;
+import ui.AnimatedGifSink;
+import ui.CoinDisplay;
+import ui.FrameCapture;
+import ui.FrameSink;
+import ui.PngSequenceSink;
+import ui.TilePainter;
+import values.TunableParameters;
+
+public class HeadlessLauncher {
+
+	private static final long DEFAULT_TICKS = 1000000;
+	private static final long NANOSECONDS_IN_A_SECOND = 1000000000L;
+	private static final int CAPTURE_QUEUE_CAPACITY = 64;
+
+	public static void main(String[] args) throws IOException {
+		long maxTicks = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_TICKS;
+		String fileLocationPrefix = args.length > 1 ? args[1] : TunableParameters.FILE_LOCATION_PREFIX;
+		HeadlessSimulation simulation = HeadlessSimulation.forLevelFiles(fileLocationPrefix,
+				1000 / TunableParameters.TARGET_FPS);
+
+		FrameCapture frameCapture = args.length > 2 ? createFrameCapture(simulation.getGameEngine(), args[2])
+				: null;
+
+		long start = System.nanoTime();
+		long executed = simulation.runTicks(maxTicks);
+		long elapsed = Math.max(1, System.nanoTime() - start);
+		System.out.println("Simulated " + executed + " ticks in " + elapsed / 1000000 + " ms ("
+				+ executed * NANOSECONDS_IN_A_SECOND / elapsed + " ticks/s)");
+		if (frameCapture != null) {
+			frameCapture.close();
+			System.out.println("Captured " + frameCapture.getEncodedFrames() + " frames, dropped "
+					+ frameCapture.getDroppedFrames());
+		}
+	}
+
+	private static FrameCapture createFrameCapture(GameEngine gameEngine, String target) throws IOException {
+		Path path = Paths.get(target);
+		FrameSink frameSink;
+		if (target.endsWith(".gif")) {
+			frameSink = new AnimatedGifSink(path, 1000 / TunableParameters.TARGET_FPS);
+		} else {
+			frameSink = new PngSequenceSink(path);
+		}
+		int encoderThreads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+		FrameCapture frameCapture = new FrameCapture(gameEngine, new TilePainter(), new CoinDisplay(gameEngine),
+				TunableParameters.SCREEN_WIDTH, TunableParameters.SCREEN_HEIGHT, frameSink, encoderThreads,
+				CAPTURE_QUEUE_CAPACITY);
+		gameEngine.addTickListener(frameCapture);
+		return frameCapture;
+	}
+}
@@ -2,8 +2,10 @@ package launcher;
 
 import engine.GameEngine;
 import main.DungeonCrawler;
+import main.FramePacing;
 import main.ObjectFactory;
-import timer.FramesPerSecondHandler;
+import main.Simulation;
+import ui.FramePresenter;
 import ui.GameFrame;
 import wrappers.ThreadWrapper;
 
@@ -13,8 +15,10 @@ public class Launcher {
 		ThreadWrapper threadWrapper = ObjectFactory.getDefaultThreadWrapper();
 		GameEngine gameEngine = ObjectFactory.getDefaultGameEngine();
 		GameFrame gameFrame = ObjectFactory.getDefaultGameFrame();
-		FramesPerSecondHandler framesPerSecondHandler = ObjectFactory.getDefaultFramesPerSecondHandler();
+		FramePacing framePacing = ObjectFactory.getDefaultFramePacing();
+		Simulation simulation = ObjectFactory.getDefaultSimulation();
+		FramePresenter framePresenter = ObjectFactory.getDefaultFramePresenter();
 
-		new DungeonCrawler(threadWrapper, gameEngine, gameFrame, framesPerSecondHandler);
+		new DungeonCrawler(threadWrapper, gameEngine, gameFrame, framePacing, simulation, framePresenter);
 	}
 }
@@ -0,0 +1,34 @@
+package launcher;
+
+import parser.LevelCreator;
+import server.SessionManager;
+import values.TunableParameters;
+import wrappers.ReaderWrapper;
+
+public class SessionServerLauncher {
+
+	private static final int DEFAULT_SESSIONS = 1000;
+	private static final long DEFAULT_SECONDS = 10;
+	private static final long MEMORY_BUDGET_DIVISOR = 2;
+
+	public static void main(String[] args) throws InterruptedException {
+		int requestedSessions = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SESSIONS;
+		long seconds = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SECONDS;
+		String fileLocationPrefix = args.length > 2 ? args[2] : TunableParameters.FILE_LOCATION_PREFIX;
+		LevelCreator levelCreator = new LevelCreator(fileLocationPrefix, new ReaderWrapper());
+		long memoryBudget = Runtime.getRuntime().maxMemory() / MEMORY_BUDGET_DIVISOR;
+
+		try (SessionManager sessionManager = SessionManager.withSharedScheduler(
+				Runtime.getRuntime().availableProcessors(), levelCreator, TunableParameters.TICKS_PER_SECOND,
+				memoryBudget)) {
+			for (int i = 0; i < requestedSessions; i++) {
+				sessionManager.createSession();
+			}
+			System.out.println("Started " + sessionManager.getSessionCount() + " sessions, rejected "
+					+ sessionManager.getRejectedSessions() + ", reserved " + sessionManager.getReservedBytes() / 1024
+					+ " KiB of " + memoryBudget / 1024 + " KiB");
+			Thread.sleep(seconds * 1000);
+			System.out.println(sessionManager.getSessionCount() + " sessions still running after " + seconds + " s");
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package main;
+
+import timer.FramesPerSecondHandler;
+
+public class AdaptivePacing implements FramePacing {
+
+	private final FramesPerSecondHandler framesPerSecondHandler;
+
+	public AdaptivePacing(FramesPerSecondHandler framesPerSecondHandler) {
+		this.framesPerSecondHandler = framesPerSecondHandler;
+	}
+
+	@Override
+	public void runNextFrame(Runnable frame) throws InterruptedException {
+		if (framesPerSecondHandler.hasEnoughTimeElapsed()) {
+			framesPerSecondHandler.resetLastRunTimer();
+			frame.run();
+			framesPerSecondHandler.awaitNextFrame();
+		}
+	}
+}
@@ -4,7 +4,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import engine.GameEngine;
-import timer.FramesPerSecondHandler;
+import ui.FramePresenter;
 import ui.GameFrame;
 import wrappers.ThreadWrapper;
 
@@ -15,14 +15,23 @@ public class DungeonCrawler implements Runnable {
 	private final ThreadWrapper threadWrapper;
 	private final GameEngine gameEngine;
 	private final GameFrame gameFrame;
-	private final FramesPerSecondHandler framesPerSecondHandler;
+	private final FramePacing framePacing;
+	private final Simulation simulation;
+	private final FramePresenter framePresenter;
 
 	public DungeonCrawler(ThreadWrapper threadWrapper, GameEngine gameEngine, GameFrame gameFrame,
-			FramesPerSecondHandler framesPerSecondHandler) {
+			FramePacing framePacing, Simulation simulation) {
+		this(threadWrapper, gameEngine, gameFrame, framePacing, simulation, gameFrame);
+	}
+
+	public DungeonCrawler(ThreadWrapper threadWrapper, GameEngine gameEngine, GameFrame gameFrame,
+			FramePacing framePacing, Simulation simulation, FramePresenter framePresenter) {
 		this.threadWrapper = threadWrapper;
 		this.gameEngine = gameEngine;
 		this.gameFrame = gameFrame;
-		this.framesPerSecondHandler = framesPerSecondHandler;
+		this.framePacing = framePacing;
+		this.simulation = simulation;
+		this.framePresenter = framePresenter;
 		this.threadWrapper.createNewThreadWithDungeonCrawler(this);
 	}
 
@@ -30,7 +39,7 @@ public class DungeonCrawler implements Runnable {
 	public void run() {
 		while (!gameEngine.isExit()) {
 			try {
-				runIfEnoughTimeHasElapsed();
+				framePacing.runNextFrame(this::runFrame);
 			} catch (InterruptedException e) {
 				threadWrapper.currentThreadInterrupt();
 				LOGGER.log(Level.SEVERE, e.toString(), e);
@@ -51,11 +60,8 @@ public class DungeonCrawler implements Runnable {
 		gameFrame.dispose();
 	}
 
-	private void runIfEnoughTimeHasElapsed() throws InterruptedException {
-		if (framesPerSecondHandler.hasEnoughTimeElapsed()) {
-			framesPerSecondHandler.resetLastRunTimer();
-			gameEngine.run(gameFrame);
-			threadWrapper.sleep(framesPerSecondHandler.calculateSleepDurationInMilliSeconds());
-		}
+	private void runFrame() {
+		simulation.advance();
+		framePresenter.present();
 	}
 }
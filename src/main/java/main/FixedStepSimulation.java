@@ -0,0 +1,38 @@
+package main;
+
+import engine.GameEngine;
+import timer.FixedTimestep;
+import timer.PerformanceStats;
+
+public class FixedStepSimulation implements Simulation {
+
+	private final GameEngine gameEngine;
+	private final FixedTimestep fixedTimestep;
+	private final PerformanceStats performanceStats;
+
+	public FixedStepSimulation(GameEngine gameEngine, FixedTimestep fixedTimestep) {
+		this(gameEngine, fixedTimestep, null);
+	}
+
+	public FixedStepSimulation(GameEngine gameEngine, FixedTimestep fixedTimestep,
+			PerformanceStats performanceStats) {
+		this.gameEngine = gameEngine;
+		this.fixedTimestep = fixedTimestep;
+		this.performanceStats = performanceStats;
+	}
+
+	@Override
+	public void advance() {
+		int steps = fixedTimestep.stepsDue();
+		for (int i = 0; i < steps && !gameEngine.isExit(); i++) {
+			long stepTime = fixedTimestep.nextStepTime();
+			if (performanceStats == null) {
+				gameEngine.tick(stepTime);
+			} else {
+				performanceStats.tickStarted();
+				gameEngine.tick(stepTime);
+				performanceStats.tickFinished();
+			}
+		}
+	}
+}
@@ -0,0 +1,5 @@
+package main;
+
+public interface FramePacing {
+	void runNextFrame(Runnable frame) throws InterruptedException;
+}
@@ -0,0 +1,67 @@
+package main;
+
+import java.util.concurrent.TimeUnit;
+
+import engine.GameEngine;
+import parser.LevelCreator;
+import timer.PowerUpTimer;
+import timer.SimulatedClock;
+import wrappers.ReaderWrapper;
+
+public class HeadlessSimulation {
+
+	private final GameEngine gameEngine;
+	private final SimulatedClock clock;
+	private final long tickNanoseconds;
+	private long ticks;
+
+	public HeadlessSimulation(GameEngine gameEngine, SimulatedClock clock, long tickMillis) {
+		this(gameEngine, clock, tickMillis, TimeUnit.MILLISECONDS);
+	}
+
+	public HeadlessSimulation(GameEngine gameEngine, SimulatedClock clock, long tickLength, TimeUnit unit) {
+		if (tickLength <= 0) {
+			throw new IllegalArgumentException("Tick length must be positive: " + tickLength);
+		}
+		this.gameEngine = gameEngine;
+		this.clock = clock;
+		this.tickNanoseconds = unit.toNanos(tickLength);
+	}
+
+	public static HeadlessSimulation forLevelFiles(String fileLocationPrefix, long tickMillis) {
+		return forLevelCreator(new LevelCreator(fileLocationPrefix, new ReaderWrapper()), tickMillis);
+	}
+
+	public static HeadlessSimulation forLevelCreator(LevelCreator levelCreator, long tickMillis) {
+		return forLevelCreator(levelCreator, tickMillis, TimeUnit.MILLISECONDS);
+	}
+
+	public static HeadlessSimulation forLevelCreator(LevelCreator levelCreator, long tickLength, TimeUnit unit) {
+		SimulatedClock clock = new SimulatedClock(0);
+		GameEngine gameEngine = new GameEngine(levelCreator, clock, new PowerUpTimer(clock));
+		return new HeadlessSimulation(gameEngine, clock, tickLength, unit);
+	}
+
+	public long runTicks(long maxTicks) {
+		long executed = 0;
+		while (executed < maxTicks && !gameEngine.isExit()) {
+			clock.advanceNanos(tickNanoseconds);
+			gameEngine.tick(clock.currentTimeMillis());
+			executed++;
+		}
+		ticks += executed;
+		return executed;
+	}
+
+	public GameEngine getGameEngine() {
+		return gameEngine;
+	}
+
+	public SimulatedClock getClock() {
+		return clock;
+	}
+
+	public long getTicks() {
+		return ticks;
+	}
+}
@@ -1,9 +1,21 @@
 package main;
 
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+
 import engine.GameEngine;
 import parser.LevelCreator;
+import timer.FixedTimestep;
+import timer.FrameScheduler;
 import timer.FramesPerSecondHandler;
+import timer.PerformanceStats;
 import timer.PowerUpTimer;
+import timer.TickProfiler;
 import ui.*;
 import values.TunableParameters;
 import wrappers.ReaderWrapper;
@@ -11,22 +23,143 @@ import wrappers.SystemWrapper;
 import wrappers.ThreadWrapper;
 
 public abstract class ObjectFactory {
+	private static final Logger LOGGER = Logger.getLogger(ObjectFactory.class.getName());
 	private static ThreadWrapper defaultThreadWrapper = new ThreadWrapper();
 	private static SystemWrapper systemWrapper = new SystemWrapper();
 	private static LevelCreator defaultLevelCreator = new LevelCreator(TunableParameters.FILE_LOCATION_PREFIX,
 			new ReaderWrapper());
+	private static boolean tickProfiling = Boolean
+			.parseBoolean(systemWrapper.getProperty(TunableParameters.TICK_PROFILING_PROPERTY, "true"));
 	private static PowerUpTimer powerUpTimer = new PowerUpTimer(systemWrapper);
-	private static GameEngine defaultGameEngine = new GameEngine(defaultLevelCreator, systemWrapper, powerUpTimer);
-	private static CoinDisplay defaultCoinDisplay = new CoinDisplay(defaultGameEngine);
-	private static GameFrame defaultGameFrame = new GameFrame(
-			new GamePanel(defaultGameEngine, new TilePainter(), defaultCoinDisplay),
-			new WindowAdapterSystemExit(defaultGameEngine));
-	private static FramesPerSecondHandler defaultFramesPerSecondHandler = new FramesPerSecondHandler(
-			TunableParameters.TARGET_FPS, new SystemWrapper());
+	private static TickProfiler defaultTickProfiler;
+	private static GameEngine defaultGameEngine = createGameEngine();
+	private static PerformanceStats defaultPerformanceStats = TunableParameters.SHOW_PERFORMANCE_HUD
+			? new PerformanceStats(systemWrapper, defaultThreadWrapper)
+			: null;
+	private static CoinDisplay defaultCoinDisplay = createCoinDisplay();
+	private static GameCanvas defaultGameCanvas = TunableParameters.ACTIVE_RENDERING ? createGameCanvas() : null;
+	private static GameFrame defaultGameFrame = createGameFrame();
+	private static FramePacing defaultFramePacing = createFramePacing();
+	private static Simulation defaultSimulation = createSimulation();
+	private static FramePresenter defaultFramePresenter = createFramePresenter();
 
 	private ObjectFactory() {
 	}
 
+	private static TickProfiler createTickProfiler() {
+		TickProfiler tickProfiler = new TickProfiler(systemWrapper);
+		try {
+			tickProfiler.register(ManagementFactory.getPlatformMBeanServer(), TunableParameters.JMX_DOMAIN);
+		} catch (JMException e) {
+			LOGGER.log(Level.WARNING, e.toString(), e);
+		}
+		return tickProfiler;
+	}
+
+	private static FramePacing createFramePacing() {
+		if (TunableParameters.ADAPTIVE_FRAME_PACING) {
+			return new AdaptivePacing(
+					new FramesPerSecondHandler(TunableParameters.TARGET_FPS, systemWrapper, defaultThreadWrapper));
+		}
+		return new ScheduledPacing(
+				new FrameScheduler(TunableParameters.TARGET_FPS, systemWrapper, defaultThreadWrapper));
+	}
+
+	private static Simulation createSimulation() {
+		FixedTimestep fixedTimestep = new FixedTimestep(TunableParameters.TICKS_PER_SECOND,
+				TunableParameters.MAX_TICKS_PER_FRAME, systemWrapper);
+		if (defaultPerformanceStats != null) {
+			return new FixedStepSimulation(defaultGameEngine, fixedTimestep, defaultPerformanceStats);
+		}
+		return new FixedStepSimulation(defaultGameEngine, fixedTimestep);
+	}
+
+	private static FramePresenter createFramePresenter() {
+		FramePresenter framePresenter = defaultGameCanvas != null ? defaultGameCanvas : defaultGameFrame;
+		if (defaultPerformanceStats != null) {
+			return new MeasuredFramePresenter(framePresenter, defaultPerformanceStats);
+		}
+		return framePresenter;
+	}
+
+	private static GameEngine createGameEngine() {
+		GameEngine gameEngine = new GameEngine(defaultLevelCreator, systemWrapper, powerUpTimer);
+		gameEngine.setEnemyUpdatePool(ForkJoinPool.commonPool());
+		if (tickProfiling) {
+			gameEngine.setTickProfiler(getDefaultTickProfiler());
+		}
+		return gameEngine;
+	}
+
+	private static CoinDisplay createCoinDisplay() {
+		CoinDisplay coinDisplay = new CoinDisplay(defaultGameEngine);
+		if (defaultPerformanceStats != null) {
+			coinDisplay.setPerformanceStats(defaultPerformanceStats);
+		}
+		return coinDisplay;
+	}
+
+	private static GameFrame createGameFrame() {
+		WindowAdapterSystemExit windowAdapterSystemExit = new WindowAdapterSystemExit(defaultGameEngine);
+		if (defaultGameCanvas != null) {
+			return new GameFrame(defaultGameCanvas, windowAdapterSystemExit);
+		}
+		GameFrame gameFrame = new GameFrame(createGamePanel(), windowAdapterSystemExit);
+		if (tickProfiling) {
+			gameFrame.setTickProfiler(getDefaultTickProfiler());
+		}
+		return gameFrame;
+	}
+
+	private static TilePainter createTilePainter() {
+		TilePainter tilePainter = new TilePainter();
+		if (new File(TunableParameters.SPRITE_SHEET_LOCATION).isFile()) {
+			tilePainter.setSpriteAtlas(SpriteAtlas.fromFile(TunableParameters.SPRITE_SHEET_LOCATION));
+		}
+		return tilePainter;
+	}
+
+	private static GameCanvas createGameCanvas() {
+		TilePainter tilePainter = createTilePainter();
+		GameCanvas gameCanvas = new GameCanvas(defaultGameEngine, tilePainter, defaultCoinDisplay,
+				TunableParameters.RENDER_BUFFERS);
+		if (TunableParameters.CAMERA_TILE_SIZE > 0) {
+			gameCanvas.setCamera(createCamera());
+		} else {
+			gameCanvas.setBackgroundLayer(new BackgroundLayer(gameCanvas, tilePainter));
+		}
+		if (TunableParameters.RASTER_RENDERING) {
+			gameCanvas.setRasterRenderer(new RasterRenderer());
+		}
+		if (tickProfiling) {
+			gameCanvas.setTickProfiler(getDefaultTickProfiler());
+		}
+		return gameCanvas;
+	}
+
+	private static GamePanel createGamePanel() {
+		TilePainter tilePainter = createTilePainter();
+		GamePanel gamePanel = new GamePanel(defaultGameEngine, tilePainter, defaultCoinDisplay);
+		if (TunableParameters.CAMERA_TILE_SIZE > 0) {
+			gamePanel.setCamera(createCamera());
+		} else {
+			gamePanel.setBackgroundLayer(new BackgroundLayer(gamePanel, tilePainter));
+			gamePanel.setDirtyRegionRendering(true);
+		}
+		if (TunableParameters.RASTER_RENDERING) {
+			gamePanel.setRasterRenderer(new RasterRenderer());
+		}
+		if (tickProfiling) {
+			gamePanel.setTickProfiler(getDefaultTickProfiler());
+		}
+		return gamePanel;
+	}
+
+	private static Camera createCamera() {
+		return new Camera(TunableParameters.CAMERA_TILE_SIZE, TunableParameters.SCREEN_WIDTH,
+				TunableParameters.SCREEN_HEIGHT);
+	}
+
 	public static ThreadWrapper getDefaultThreadWrapper() {
 		return defaultThreadWrapper;
 	}
@@ -39,8 +172,27 @@ public abstract class ObjectFactory {
 		return defaultGameFrame;
 	}
 
-	public static FramesPerSecondHandler getDefaultFramesPerSecondHandler() {
-		return defaultFramesPerSecondHandler;
+	public static FramePresenter getDefaultFramePresenter() {
+		return defaultFramePresenter;
+	}
+
+	public static PerformanceStats getDefaultPerformanceStats() {
+		return defaultPerformanceStats;
+	}
+
+	public static synchronized TickProfiler getDefaultTickProfiler() {
+		if (defaultTickProfiler == null) {
+			defaultTickProfiler = createTickProfiler();
+		}
+		return defaultTickProfiler;
+	}
+
+	public static FramePacing getDefaultFramePacing() {
+		return defaultFramePacing;
+	}
+
+	public static Simulation getDefaultSimulation() {
+		return defaultSimulation;
 	}
 
 }
@@ -0,0 +1,18 @@
+package main;
+
+import timer.FrameScheduler;
+
+public class ScheduledPacing implements FramePacing {
+
+	private final FrameScheduler frameScheduler;
+
+	public ScheduledPacing(FrameScheduler frameScheduler) {
+		this.frameScheduler = frameScheduler;
+	}
+
+	@Override
+	public void runNextFrame(Runnable frame) throws InterruptedException {
+		frameScheduler.awaitNextFrame();
+		frame.run();
+	}
+}
@@ -0,0 +1,5 @@
+package main;
+
+public interface Simulation {
+	void advance();
+}
@@ -0,0 +1,24 @@
+package main;
+
+import timer.FramesPerSecondHandler;
+import wrappers.ThreadWrapper;
+
+public class SleepPacing implements FramePacing {
+
+	private final FramesPerSecondHandler framesPerSecondHandler;
+	private final ThreadWrapper threadWrapper;
+
+	public SleepPacing(FramesPerSecondHandler framesPerSecondHandler, ThreadWrapper threadWrapper) {
+		this.framesPerSecondHandler = framesPerSecondHandler;
+		this.threadWrapper = threadWrapper;
+	}
+
+	@Override
+	public void runNextFrame(Runnable frame) throws InterruptedException {
+		if (framesPerSecondHandler.hasEnoughTimeElapsed()) {
+			framesPerSecondHandler.resetLastRunTimer();
+			frame.run();
+			threadWrapper.sleep(framesPerSecondHandler.calculateSleepDurationInMilliSeconds());
+		}
+	}
+}
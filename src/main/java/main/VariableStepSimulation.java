@@ -0,0 +1,30 @@
+package main;
+
+import engine.GameEngine;
+import timer.PerformanceStats;
+
+public class VariableStepSimulation implements Simulation {
+
+	private final GameEngine gameEngine;
+	private final PerformanceStats performanceStats;
+
+	public VariableStepSimulation(GameEngine gameEngine) {
+		this(gameEngine, null);
+	}
+
+	public VariableStepSimulation(GameEngine gameEngine, PerformanceStats performanceStats) {
+		this.gameEngine = gameEngine;
+		this.performanceStats = performanceStats;
+	}
+
+	@Override
+	public void advance() {
+		if (performanceStats == null) {
+			gameEngine.tick();
+		} else {
+			performanceStats.tickStarted();
+			gameEngine.tick();
+			performanceStats.tickFinished();
+		}
+	}
+}
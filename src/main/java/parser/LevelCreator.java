@@ -33,6 +33,29 @@ public class LevelCreator {
 		}
 	}
 
+	public LevelSize measureLevel(int level) throws IOException {
+		try (BufferedReader reader = createReaderForLevel(level)) {
+			String line;
+			int width = 0;
+			int height = 0;
+			int enemies = 0;
+			int collectibles = 0;
+			while ((line = reader.readLine()) != null) {
+				width = Math.max(width, line.length());
+				height++;
+				for (int i = 0; i < line.length(); i++) {
+					char ch = line.charAt(i);
+					if (ch == TileType.ENEMY.getChar()) {
+						enemies++;
+					} else if (ch == TileType.COIN.getChar() || ch == TileType.POWER_UP.getChar()) {
+						collectibles++;
+					}
+				}
+			}
+			return new LevelSize(width, height, enemies, collectibles);
+		}
+	}
+
 	private BufferedReader createReaderForLevel(int level) throws FileNotFoundException {
 		return readerWrapper.createBufferedReader(getFilePath(level));
 	}
@@ -0,0 +1,32 @@
+package parser;
+
+public final class LevelSize {
+
+	private final int width;
+	private final int height;
+	private final int enemies;
+	private final int collectibles;
+
+	public LevelSize(int width, int height, int enemies, int collectibles) {
+		this.width = width;
+		this.height = height;
+		this.enemies = enemies;
+		this.collectibles = collectibles;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	public int getEnemies() {
+		return enemies;
+	}
+
+	public int getCollectibles() {
+		return collectibles;
+	}
+}
@@ -0,0 +1,100 @@
+package server;
+
+import java.util.concurrent.ScheduledFuture;
+
+import engine.GameEngine;
+import engine.InputCommand;
+import main.HeadlessSimulation;
+import parser.LevelSize;
+import tiles.GridArrays;
+import values.TunableParameters;
+
+public class GameSession {
+
+	// Per-entity arrays grow by doubling, so each entry may cost twice its element size.
+	private static final long GROWTH_SLACK = 2;
+	private static final long OBJECT_HEADER_BYTES = 16;
+	private static final long REFERENCE_BYTES = Long.BYTES;
+	// TileGrid cells and listed-cell bit set, the passable list, coin and power-up slots, occupancy heads.
+	private static final long TILE_BYTES_PER_CELL = Byte.BYTES + 1;
+	private static final long PASSABLE_LIST_BYTES_PER_CELL = GROWTH_SLACK * Integer.BYTES;
+	private static final long COLLECTIBLE_SLOT_BYTES_PER_CELL = 2 * Integer.BYTES;
+	private static final long OCCUPANCY_BYTES_PER_CELL = Integer.BYTES;
+	static final long BYTES_PER_CELL = TILE_BYTES_PER_CELL + PASSABLE_LIST_BYTES_PER_CELL
+			+ COLLECTIBLE_SLOT_BYTES_PER_CELL + OCCUPANCY_BYTES_PER_CELL;
+	// OccupancyGrid next, x, y and kind per entity.
+	private static final long ENTITY_BYTES = GROWTH_SLACK * (3 * Integer.BYTES + Byte.BYTES);
+	// Enemies x, y, direction, next move time and entity id, plus the enemy's occupancy entry.
+	static final long BYTES_PER_ENEMY = GROWTH_SLACK * (3 * Integer.BYTES + Byte.BYTES + Long.BYTES) + ENTITY_BYTES;
+	// A Coin or PowerUp object with its two coordinates and its slot in the index list.
+	static final long BYTES_PER_COLLECTIBLE = OBJECT_HEADER_BYTES + 2 * Integer.BYTES
+			+ GROWTH_SLACK * REFERENCE_BYTES;
+	private final long id;
+	private final HeadlessSimulation simulation;
+	private final long footprintBytes;
+	private ScheduledFuture<?> tickTask;
+	private boolean cancelled;
+
+	GameSession(long id, HeadlessSimulation simulation, long footprintBytes) {
+		this.id = id;
+		this.simulation = simulation;
+		this.footprintBytes = footprintBytes;
+	}
+
+	static long estimateFootprintBytes(LevelSize levelSize) {
+		long cells = (long) grownCapacity(levelSize.getWidth()) * grownCapacity(levelSize.getHeight());
+		return TunableParameters.SESSION_BASE_BYTES + cells * BYTES_PER_CELL
+				+ levelSize.getEnemies() * BYTES_PER_ENEMY + levelSize.getCollectibles() * BYTES_PER_COLLECTIBLE;
+	}
+
+	private static int grownCapacity(int size) {
+		int capacity = 0;
+		while (capacity < size) {
+			capacity = GridArrays.grownCapacity(capacity + 1, capacity);
+		}
+		return capacity;
+	}
+
+	public synchronized boolean submitInput(InputCommand command) {
+		return simulation.getGameEngine().submitInput(command);
+	}
+
+	void tick() {
+		simulation.runTicks(1);
+	}
+
+	synchronized void setTickTask(ScheduledFuture<?> tickTask) {
+		if (cancelled) {
+			tickTask.cancel(false);
+		} else {
+			this.tickTask = tickTask;
+		}
+	}
+
+	synchronized void cancel() {
+		cancelled = true;
+		if (tickTask != null) {
+			tickTask.cancel(false);
+		}
+	}
+
+	public boolean isFinished() {
+		return simulation.getGameEngine().isExit();
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public GameEngine getGameEngine() {
+		return simulation.getGameEngine();
+	}
+
+	public long getTicks() {
+		return simulation.getTicks();
+	}
+
+	public long getFootprintBytes() {
+		return footprintBytes;
+	}
+}
@@ -0,0 +1,149 @@
+package server;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import engine.GameEngine;
+import main.HeadlessSimulation;
+import parser.LevelCreator;
+
+public class SessionManager implements AutoCloseable {
+
+	private static final Logger LOGGER = Logger.getLogger(SessionManager.class.getName());
+	private static final long NANOSECONDS_IN_A_SECOND = 1000000000L;
+	private static final long UNMEASURED = -1;
+	private final ScheduledExecutorService scheduler;
+	private final LevelCreator levelCreator;
+	private final long tickPeriodNanoseconds;
+	private final long memoryBudgetBytes;
+	private final long footprintBytes;
+	private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+	private final AtomicLong nextSessionId = new AtomicLong(1);
+	private final AtomicLong reservedBytes = new AtomicLong();
+	private final AtomicLong rejectedSessions = new AtomicLong();
+
+	public SessionManager(ScheduledExecutorService scheduler, LevelCreator levelCreator, int ticksPerSecond,
+			long memoryBudgetBytes) {
+		if (ticksPerSecond <= 0 || memoryBudgetBytes <= 0) {
+			throw new IllegalArgumentException("Sessions need a positive tick rate and memory budget: "
+					+ ticksPerSecond + ", " + memoryBudgetBytes);
+		}
+		this.scheduler = scheduler;
+		this.levelCreator = levelCreator;
+		this.tickPeriodNanoseconds = NANOSECONDS_IN_A_SECOND / ticksPerSecond;
+		this.memoryBudgetBytes = memoryBudgetBytes;
+		this.footprintBytes = estimateFootprintBytes(levelCreator);
+	}
+
+	public static SessionManager withSharedScheduler(int tickThreads, LevelCreator levelCreator, int ticksPerSecond,
+			long memoryBudgetBytes) {
+		if (tickThreads <= 0) {
+			throw new IllegalArgumentException("Tick thread count must be positive: " + tickThreads);
+		}
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(tickThreads, runnable -> {
+			Thread thread = new Thread(runnable, "session-tick");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.setRemoveOnCancelPolicy(true);
+		return new SessionManager(scheduler, levelCreator, ticksPerSecond, memoryBudgetBytes);
+	}
+
+	public GameSession createSession() {
+		if (footprintBytes == UNMEASURED || !reserve(footprintBytes)) {
+			rejectedSessions.incrementAndGet();
+			return null;
+		}
+		GameSession session;
+		try {
+			session = new GameSession(nextSessionId.getAndIncrement(),
+					HeadlessSimulation.forLevelCreator(levelCreator, tickPeriodNanoseconds, TimeUnit.NANOSECONDS),
+					footprintBytes);
+		} catch (RuntimeException | Error e) {
+			reservedBytes.addAndGet(-footprintBytes);
+			throw e;
+		}
+		sessions.put(session.getId(), session);
+		session.setTickTask(scheduler.scheduleAtFixedRate(() -> tick(session), tickPeriodNanoseconds,
+				tickPeriodNanoseconds, TimeUnit.NANOSECONDS));
+		return session;
+	}
+
+	public boolean destroySession(long id) {
+		GameSession session = sessions.remove(id);
+		if (session == null) {
+			return false;
+		}
+		session.cancel();
+		reservedBytes.addAndGet(-session.getFootprintBytes());
+		return true;
+	}
+
+	public GameSession getSession(long id) {
+		return sessions.get(id);
+	}
+
+	public int getSessionCount() {
+		return sessions.size();
+	}
+
+	public long getReservedBytes() {
+		return reservedBytes.get();
+	}
+
+	public long getMemoryBudgetBytes() {
+		return memoryBudgetBytes;
+	}
+
+	public long getRejectedSessions() {
+		return rejectedSessions.get();
+	}
+
+	@Override
+	public void close() {
+		for (Long id : new ArrayList<>(sessions.keySet())) {
+			destroySession(id);
+		}
+		scheduler.shutdown();
+	}
+
+	private static long estimateFootprintBytes(LevelCreator levelCreator) {
+		try {
+			return GameSession.estimateFootprintBytes(levelCreator.measureLevel(GameEngine.FIRST_LEVEL));
+		} catch (IOException e) {
+			LOGGER.log(Level.SEVERE, "Cannot measure level " + GameEngine.FIRST_LEVEL + ": " + e, e);
+			return UNMEASURED;
+		}
+	}
+
+	private boolean reserve(long bytes) {
+		long current;
+		do {
+			current = reservedBytes.get();
+			if (current + bytes > memoryBudgetBytes) {
+				return false;
+			}
+		} while (!reservedBytes.compareAndSet(current, current + bytes));
+		return true;
+	}
+
+	private void tick(GameSession session) {
+		try {
+			session.tick();
+			if (session.isFinished()) {
+				destroySession(session.getId());
+			}
+		} catch (RuntimeException e) {
+			LOGGER.log(Level.SEVERE, "Session " + session.getId() + " failed: " + e, e);
+			destroySession(session.getId());
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package tiles;
+
+public final class Cell {
+
+	private static final long LOW_INT_MASK = 0xFFFFFFFFL;
+
+	private Cell() {
+	}
+
+	public static long pack(int x, int y) {
+		return ((long) y << Integer.SIZE) | (x & LOW_INT_MASK);
+	}
+
+	public static int x(long cell) {
+		return (int) cell;
+	}
+
+	public static int y(long cell) {
+		return (int) (cell >> Integer.SIZE);
+	}
+}
@@ -0,0 +1,5 @@
+package tiles;
+
+public interface CellFilter {
+	boolean accepts(int x, int y);
+}
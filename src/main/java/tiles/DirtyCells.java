@@ -0,0 +1,79 @@
+package tiles;
+
+import java.util.Arrays;
+
+public class DirtyCells {
+
+	private static final byte CLEAN = 0;
+	private static final byte DIRTY = 1;
+	private long[] cells = new long[16];
+	private int count;
+	private byte[] marks = new byte[0];
+	private int capacityWidth;
+	private int capacityHeight;
+
+	public void mark(int x, int y) {
+		if (x < 0 || y < 0) {
+			return;
+		}
+		ensureCapacity(x + 1, y + 1);
+		int cell = y * capacityWidth + x;
+		if (marks[cell] == DIRTY) {
+			return;
+		}
+		marks[cell] = DIRTY;
+		if (count == cells.length) {
+			cells = Arrays.copyOf(cells, count * 2);
+		}
+		cells[count++] = Cell.pack(x, y);
+	}
+
+	public int size() {
+		return count;
+	}
+
+	public long get(int index) {
+		if (index < 0 || index >= count) {
+			throw new IndexOutOfBoundsException("Dirty cell " + index + " of " + count);
+		}
+		return cells[index];
+	}
+
+	public int drainTo(DirtyCells target) {
+		int drained = 0;
+		for (int i = 0; i < count; i++) {
+			long cell = cells[i];
+			int x = Cell.x(cell);
+			int y = Cell.y(cell);
+			marks[y * capacityWidth + x] = CLEAN;
+			if (!target.isMarked(x, y)) {
+				target.mark(x, y);
+				drained++;
+			}
+		}
+		count = 0;
+		return drained;
+	}
+
+	public void clear() {
+		for (int i = 0; i < count; i++) {
+			marks[Cell.y(cells[i]) * capacityWidth + Cell.x(cells[i])] = CLEAN;
+		}
+		count = 0;
+	}
+
+	private boolean isMarked(int x, int y) {
+		return x < capacityWidth && y < capacityHeight && marks[y * capacityWidth + x] == DIRTY;
+	}
+
+	private void ensureCapacity(int requiredWidth, int requiredHeight) {
+		if (requiredWidth <= capacityWidth && requiredHeight <= capacityHeight) {
+			return;
+		}
+		int newCapacityWidth = GridArrays.grownCapacity(requiredWidth, capacityWidth);
+		int newCapacityHeight = GridArrays.grownCapacity(requiredHeight, capacityHeight);
+		marks = GridArrays.resize(marks, capacityWidth, capacityHeight, newCapacityWidth, newCapacityHeight, CLEAN);
+		capacityWidth = newCapacityWidth;
+		capacityHeight = newCapacityHeight;
+	}
+}
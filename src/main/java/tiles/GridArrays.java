@@ -0,0 +1,30 @@
+package tiles;
+
+import java.util.Arrays;
+
+public final class GridArrays {
+
+	private GridArrays() {
+	}
+
+	public static int grownCapacity(int required, int current) {
+		return required > current ? Math.max(required, current * 2) : current;
+	}
+
+	public static byte[] resize(byte[] cells, int width, int height, int newWidth, int newHeight, byte fill) {
+		byte[] newCells = new byte[newWidth * newHeight];
+		Arrays.fill(newCells, fill);
+		for (int y = 0; y < height; y++) {
+			System.arraycopy(cells, y * width, newCells, y * newWidth, width);
+		}
+		return newCells;
+	}
+
+	public static int[] resize(int[] cells, int width, int height, int newWidth, int newHeight) {
+		int[] newCells = new int[newWidth * newHeight];
+		for (int y = 0; y < height; y++) {
+			System.arraycopy(cells, y * width, newCells, y * newWidth, width);
+		}
+		return newCells;
+	}
+}
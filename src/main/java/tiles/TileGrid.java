@@ -0,0 +1,189 @@
+package tiles;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class TileGrid implements TileStore {
+
+	private static final byte NO_TILE = -1;
+	public static final long NO_CELL = -1L;
+	private static final TileType[] TILE_TYPES = TileType.values();
+	private static final byte PASSABLE = (byte) TileType.PASSABLE.ordinal();
+	private byte[] cells;
+	private long[] listedCells;
+	private int[] passableCells = new int[0];
+	private int listedCount;
+	private int passableCount;
+	private int capacityWidth;
+	private int capacityHeight;
+	private int width;
+	private int height;
+	private DirtyCells changes;
+	private int terrainVersion;
+
+	public TileGrid() {
+		this(0, 0);
+	}
+
+	public TileGrid(int width, int height) {
+		if (width < 0 || height < 0) {
+			throw new IllegalArgumentException("Grid dimensions must not be negative: " + width + "x" + height);
+		}
+		capacityWidth = width;
+		capacityHeight = height;
+		cells = new byte[width * height];
+		Arrays.fill(cells, NO_TILE);
+		listedCells = new long[bitSetLength(width * height)];
+		this.width = width;
+		this.height = height;
+	}
+
+	@Override
+	public int getWidth() {
+		return width;
+	}
+
+	@Override
+	public int getHeight() {
+		return height;
+	}
+
+	@Override
+	public boolean isWithinBounds(int x, int y) {
+		return x >= 0 && y >= 0 && x < width && y < height;
+	}
+
+	@Override
+	public TileType get(int x, int y) {
+		return getOrDefault(x, y, null);
+	}
+
+	@Override
+	public TileType getOrDefault(int x, int y, TileType defaultTileType) {
+		if (!isWithinBounds(x, y)) {
+			return defaultTileType;
+		}
+		byte ordinal = cells[y * capacityWidth + x];
+		return ordinal == NO_TILE ? defaultTileType : TILE_TYPES[ordinal];
+	}
+
+	@Override
+	public void set(int x, int y, TileType tileType) {
+		if (x < 0 || y < 0) {
+			return;
+		}
+		ensureCapacity(x + 1, y + 1);
+		int cell = y * capacityWidth + x;
+		byte ordinal = tileType == null ? NO_TILE : (byte) tileType.ordinal();
+		if (changes != null && cells[cell] != ordinal) {
+			changes.mark(x, y);
+		}
+		if (isWall(cells[cell]) != isWall(ordinal) || (cells[cell] == NO_TILE) != (ordinal == NO_TILE)) {
+			terrainVersion++;
+		}
+		updatePassableCells(cell, cells[cell] == PASSABLE, ordinal == PASSABLE);
+		cells[cell] = ordinal;
+		width = Math.max(width, x + 1);
+		height = Math.max(height, y + 1);
+	}
+
+	public void trackChanges(DirtyCells changes) {
+		this.changes = changes;
+	}
+
+	public int getTerrainVersion() {
+		return terrainVersion;
+	}
+
+	public int getPassableCount() {
+		return passableCount;
+	}
+
+	public long randomPassableCell(Random random, CellFilter filter) {
+		int candidates = listedCount;
+		while (candidates > 0) {
+			int index = random.nextInt(candidates);
+			int cell = passableCells[index];
+			int x = cell % capacityWidth;
+			int y = cell / capacityWidth;
+			if (cells[cell] == PASSABLE && filter.accepts(x, y)) {
+				return Cell.pack(x, y);
+			}
+			candidates--;
+			swapPassableCells(index, candidates);
+			if (cells[cell] != PASSABLE) {
+				unlistPassableCell(candidates);
+			}
+		}
+		return NO_CELL;
+	}
+
+	private static boolean isWall(byte ordinal) {
+		return ordinal == TileType.NOT_PASSABLE.ordinal();
+	}
+
+	private static int bitSetLength(int cellCount) {
+		return (cellCount + Long.SIZE - 1) / Long.SIZE;
+	}
+
+	private boolean isListed(int cell) {
+		return (listedCells[cell / Long.SIZE] & (1L << cell)) != 0;
+	}
+
+	private void setListed(int cell, boolean listed) {
+		if (listed) {
+			listedCells[cell / Long.SIZE] |= 1L << cell;
+		} else {
+			listedCells[cell / Long.SIZE] &= ~(1L << cell);
+		}
+	}
+
+	private void updatePassableCells(int cell, boolean wasPassable, boolean passable) {
+		if (passable && !wasPassable) {
+			passableCount++;
+			if (!isListed(cell)) {
+				listPassableCell(cell);
+			}
+		} else if (!passable && wasPassable) {
+			passableCount--;
+		}
+	}
+
+	private void listPassableCell(int cell) {
+		if (listedCount == passableCells.length) {
+			passableCells = Arrays.copyOf(passableCells, Math.max(16, listedCount * 2));
+		}
+		passableCells[listedCount++] = cell;
+		setListed(cell, true);
+	}
+
+	private void unlistPassableCell(int index) {
+		setListed(passableCells[index], false);
+		listedCount--;
+		passableCells[index] = passableCells[listedCount];
+	}
+
+	private void swapPassableCells(int first, int second) {
+		int cell = passableCells[first];
+		passableCells[first] = passableCells[second];
+		passableCells[second] = cell;
+	}
+
+	private void ensureCapacity(int requiredWidth, int requiredHeight) {
+		if (requiredWidth <= capacityWidth && requiredHeight <= capacityHeight) {
+			return;
+		}
+		int newCapacityWidth = GridArrays.grownCapacity(requiredWidth, capacityWidth);
+		int newCapacityHeight = GridArrays.grownCapacity(requiredHeight, capacityHeight);
+		cells = GridArrays.resize(cells, capacityWidth, capacityHeight, newCapacityWidth, newCapacityHeight, NO_TILE);
+		listedCells = new long[bitSetLength(newCapacityWidth * newCapacityHeight)];
+		for (int index = 0; index < listedCount; index++) {
+			int cell = passableCells[index];
+			int movedCell = (cell / capacityWidth) * newCapacityWidth + cell % capacityWidth;
+			passableCells[index] = movedCell;
+			setListed(movedCell, true);
+		}
+		capacityWidth = newCapacityWidth;
+		capacityHeight = newCapacityHeight;
+	}
+}
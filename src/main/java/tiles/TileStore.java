@@ -0,0 +1,16 @@
+package tiles;
+
+public interface TileStore {
+
+	int getWidth();
+
+	int getHeight();
+
+	boolean isWithinBounds(int x, int y);
+
+	TileType get(int x, int y);
+
+	TileType getOrDefault(int x, int y, TileType defaultTileType);
+
+	void set(int x, int y, TileType tileType);
+}
@@ -11,6 +11,10 @@ public enum TileType {
 		this.asChar = asChar;
 	}
 
+	public char getChar() {
+		return asChar;
+	}
+
 	public static TileType getTileTypeByChar(final char ch) {
 		for (TileType type : TileType.values()) {
 			if (type.asChar == ch) {
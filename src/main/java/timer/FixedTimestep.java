@@ -0,0 +1,52 @@
+package timer;
+
+import wrappers.SystemWrapper;
+
+public class FixedTimestep {
+
+	private static final long NANOSECONDS_IN_A_SECOND = 1000000000;
+	private static final long NANOSECONDS_IN_A_MILLISECOND = 1000000;
+	private final SystemWrapper systemWrapper;
+	private final long stepNanoseconds;
+	private final int maxStepsPerFrame;
+	private long lastNanoseconds = -1;
+	private long accumulatorNanoseconds;
+	private long simulationStartMillis;
+	private long simulatedNanoseconds;
+	private long steps;
+
+	public FixedTimestep(int ticksPerSecond, int maxStepsPerFrame, SystemWrapper systemWrapper) {
+		if (ticksPerSecond <= 0 || maxStepsPerFrame <= 0) {
+			throw new IllegalArgumentException(
+					"Tick rate and catch-up limit must be positive: " + ticksPerSecond + ", " + maxStepsPerFrame);
+		}
+		this.systemWrapper = systemWrapper;
+		this.stepNanoseconds = NANOSECONDS_IN_A_SECOND / ticksPerSecond;
+		this.maxStepsPerFrame = maxStepsPerFrame;
+	}
+
+	public int stepsDue() {
+		long now = systemWrapper.nanoTime();
+		if (lastNanoseconds < 0) {
+			lastNanoseconds = now;
+			simulationStartMillis = systemWrapper.currentTimeMillis();
+			return 0;
+		}
+		long elapsed = Math.min(now - lastNanoseconds, maxStepsPerFrame * stepNanoseconds);
+		lastNanoseconds = now;
+		accumulatorNanoseconds += Math.max(0, elapsed);
+		int due = (int) (accumulatorNanoseconds / stepNanoseconds);
+		accumulatorNanoseconds -= due * stepNanoseconds;
+		return due;
+	}
+
+	public long nextStepTime() {
+		simulatedNanoseconds += stepNanoseconds;
+		steps++;
+		return simulationStartMillis + simulatedNanoseconds / NANOSECONDS_IN_A_MILLISECOND;
+	}
+
+	public long getSteps() {
+		return steps;
+	}
+}
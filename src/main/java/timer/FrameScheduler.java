@@ -0,0 +1,56 @@
+package timer;
+
+import wrappers.SystemWrapper;
+import wrappers.ThreadWrapper;
+
+public class FrameScheduler {
+
+	private static final long NANOSECONDS_IN_A_SECOND = 1000000000;
+	private final SystemWrapper systemWrapper;
+	private final ThreadWrapper threadWrapper;
+	private final long framePeriodNanoseconds;
+	private boolean started;
+	private long nextDeadline;
+	private long missedFrames;
+
+	public FrameScheduler(int framesPerSecond, SystemWrapper systemWrapper, ThreadWrapper threadWrapper) {
+		if (framesPerSecond <= 0) {
+			throw new IllegalArgumentException("Frame rate must be positive: " + framesPerSecond);
+		}
+		this.systemWrapper = systemWrapper;
+		this.threadWrapper = threadWrapper;
+		this.framePeriodNanoseconds = NANOSECONDS_IN_A_SECOND / framesPerSecond;
+	}
+
+	public void awaitNextFrame() throws InterruptedException {
+		long now = systemWrapper.nanoTime();
+		if (!started) {
+			started = true;
+			nextDeadline = now;
+			return;
+		}
+		nextDeadline += framePeriodNanoseconds;
+		long late = now - nextDeadline;
+		if (late >= framePeriodNanoseconds) {
+			missedFrames += late / framePeriodNanoseconds;
+			nextDeadline = now;
+			return;
+		}
+		long remaining;
+		while ((remaining = nextDeadline - now) > 0) {
+			threadWrapper.parkNanos(remaining);
+			if (threadWrapper.interrupted()) {
+				throw new InterruptedException("Interrupted while waiting for the next frame");
+			}
+			now = systemWrapper.nanoTime();
+		}
+	}
+
+	public long getFramePeriodNanoseconds() {
+		return framePeriodNanoseconds;
+	}
+
+	public long getMissedFrames() {
+		return missedFrames;
+	}
+}
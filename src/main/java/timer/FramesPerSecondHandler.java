@@ -1,13 +1,20 @@
 package timer;
 
 import wrappers.SystemWrapper;
+import wrappers.ThreadWrapper;
 
 public class FramesPerSecondHandler {
 
 	protected static final int THREAD_SLEEP_LAG_DELAY = 8;
 	protected static final int MICROSECONDS_IN_A_SECOND = 1000000;
 	private static final int NANOSECONDS_IN_A_SECOND = 1000000000;
+	private static final long INITIAL_SLEEP_MARGIN_NANOSECONDS = 2000000;
+	private static final long MIN_SLEEP_MARGIN_NANOSECONDS = 50000;
+	private static final int SLEEP_MARGIN_DECAY_SHIFT = 4;
 	private final SystemWrapper systemWrapper;
+	private final ThreadWrapper threadWrapper;
+	private final LatencyHistogram pacingErrors = new LatencyHistogram();
+	private long sleepMarginNanoseconds = INITIAL_SLEEP_MARGIN_NANOSECONDS;
 	long now;
 	long last;
 	int desiredFramesPerSecond;
@@ -16,7 +23,13 @@ public class FramesPerSecondHandler {
 	long timeToSleepMilliseconds;
 
 	public FramesPerSecondHandler(int desiredFramesPerSecond, SystemWrapper systemWrapper) {
+		this(desiredFramesPerSecond, systemWrapper, null);
+	}
+
+	public FramesPerSecondHandler(int desiredFramesPerSecond, SystemWrapper systemWrapper,
+			ThreadWrapper threadWrapper) {
 		this.systemWrapper = systemWrapper;
+		this.threadWrapper = threadWrapper;
 		this.desiredFramesPerSecond = desiredFramesPerSecond;
 		framePeriodNS = NANOSECONDS_IN_A_SECOND / desiredFramesPerSecond;
 		last = 0;
@@ -28,9 +41,53 @@ public class FramesPerSecondHandler {
 	}
 
 	public void resetLastRunTimer() {
+		if (last != 0) {
+			pacingErrors.record(Math.abs(now - last - framePeriodNS));
+		}
 		last = now;
 	}
 
+	public boolean isAdaptivePacing() {
+		return threadWrapper != null;
+	}
+
+	public void awaitNextFrame() throws InterruptedException {
+		long deadline = last + framePeriodNS;
+		long current = systemWrapper.nanoTime();
+		long requested;
+		while ((requested = deadline - current - sleepMarginNanoseconds) > 0) {
+			threadWrapper.parkNanos(requested);
+			if (threadWrapper.interrupted()) {
+				throw new InterruptedException("Interrupted while waiting for the next frame");
+			}
+			long woken = systemWrapper.nanoTime();
+			learnSleepOvershoot(woken - current - requested);
+			current = woken;
+		}
+		while (deadline - current > 0) {
+			threadWrapper.onSpinWait();
+			current = systemWrapper.nanoTime();
+		}
+	}
+
+	public long getSleepMarginNanoseconds() {
+		return sleepMarginNanoseconds;
+	}
+
+	public LatencyHistogram getPacingErrors() {
+		return pacingErrors;
+	}
+
+	private void learnSleepOvershoot(long overshoot) {
+		long margin;
+		if (overshoot > sleepMarginNanoseconds) {
+			margin = overshoot + (overshoot >> 2);
+		} else {
+			margin = sleepMarginNanoseconds - ((sleepMarginNanoseconds - overshoot) >> SLEEP_MARGIN_DECAY_SHIFT);
+		}
+		sleepMarginNanoseconds = Math.max(MIN_SLEEP_MARGIN_NANOSECONDS, Math.min(margin, framePeriodNS / 2));
+	}
+
 	public long calculateSleepDurationInMilliSeconds() {
 		nextFrameNanoseconds = last + framePeriodNS;
 		timeToSleepMilliseconds = (long) Math
@@ -0,0 +1,81 @@
+package timer;
+
+import wrappers.SystemWrapper;
+import wrappers.ThreadWrapper;
+
+public class PerformanceStats {
+
+	private static final long NANOSECONDS_IN_A_SECOND = 1000000000;
+	private static final long NANOSECONDS_IN_A_MICROSECOND = 1000;
+	private static final int BYTES_IN_A_KILOBYTE = 1024;
+	private final SystemWrapper systemWrapper;
+	private final ThreadWrapper threadWrapper;
+	private long windowStart = -1;
+	private long windowStartAllocatedBytes;
+	private int windowFrames;
+	private int windowTicks;
+	private long windowTickNanos;
+	private long tickStart;
+	private volatile int framesPerSecond;
+	private volatile int tickMicros;
+	private volatile int allocationKilobytesPerSecond = -1;
+
+	public PerformanceStats(SystemWrapper systemWrapper, ThreadWrapper threadWrapper) {
+		this.systemWrapper = systemWrapper;
+		this.threadWrapper = threadWrapper;
+	}
+
+	public void tickStarted() {
+		tickStart = systemWrapper.nanoTime();
+		if (windowStart < 0) {
+			windowStart = tickStart;
+			windowStartAllocatedBytes = threadWrapper.currentThreadAllocatedBytes();
+		}
+	}
+
+	public void tickFinished() {
+		windowTickNanos += systemWrapper.nanoTime() - tickStart;
+		windowTicks++;
+	}
+
+	public void frameFinished() {
+		if (windowStart < 0) {
+			return;
+		}
+		long now = systemWrapper.nanoTime();
+		windowFrames++;
+		long elapsed = now - windowStart;
+		if (elapsed >= NANOSECONDS_IN_A_SECOND) {
+			publish(now, elapsed);
+		}
+	}
+
+	public int getFramesPerSecond() {
+		return framesPerSecond;
+	}
+
+	public int getTickMicros() {
+		return tickMicros;
+	}
+
+	public int getAllocationKilobytesPerSecond() {
+		return allocationKilobytesPerSecond;
+	}
+
+	private void publish(long now, long elapsed) {
+		framesPerSecond = (int) (windowFrames * NANOSECONDS_IN_A_SECOND / elapsed);
+		tickMicros = windowTicks == 0 ? 0 : (int) (windowTickNanos / windowTicks / NANOSECONDS_IN_A_MICROSECOND);
+		long allocatedBytes = threadWrapper.currentThreadAllocatedBytes();
+		if (allocatedBytes < 0 || windowStartAllocatedBytes < 0) {
+			allocationKilobytesPerSecond = -1;
+		} else {
+			allocationKilobytesPerSecond = (int) ((allocatedBytes - windowStartAllocatedBytes) * NANOSECONDS_IN_A_SECOND
+					/ elapsed / BYTES_IN_A_KILOBYTE);
+		}
+		windowStart = now;
+		windowStartAllocatedBytes = allocatedBytes;
+		windowFrames = 0;
+		windowTicks = 0;
+		windowTickNanos = 0;
+	}
+}
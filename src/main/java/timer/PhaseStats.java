@@ -0,0 +1,40 @@
+package timer;
+
+public class PhaseStats implements PhaseStatsMBean {
+
+	private final LatencyHistogram histogram = new LatencyHistogram();
+
+	void record(long nanoseconds) {
+		histogram.record(nanoseconds);
+	}
+
+	@Override
+	public long getCount() {
+		return histogram.getCount();
+	}
+
+	@Override
+	public long getP50Nanoseconds() {
+		return histogram.getPercentile(50);
+	}
+
+	@Override
+	public long getP99Nanoseconds() {
+		return histogram.getPercentile(99);
+	}
+
+	@Override
+	public long getP999Nanoseconds() {
+		return histogram.getPercentile(99.9);
+	}
+
+	@Override
+	public long getMaxNanoseconds() {
+		return histogram.getMax();
+	}
+
+	@Override
+	public void reset() {
+		histogram.reset();
+	}
+}
@@ -0,0 +1,16 @@
+package timer;
+
+public interface PhaseStatsMBean {
+
+	long getCount();
+
+	long getP50Nanoseconds();
+
+	long getP99Nanoseconds();
+
+	long getP999Nanoseconds();
+
+	long getMaxNanoseconds();
+
+	void reset();
+}
@@ -0,0 +1,37 @@
+package timer;
+
+import wrappers.SystemWrapper;
+
+public class SimulatedClock extends SystemWrapper {
+
+	private static final long NANOSECONDS_IN_A_MILLISECOND = 1000000;
+	private long currentTimeNanos;
+
+	public SimulatedClock(long startTimeMillis) {
+		this.currentTimeNanos = startTimeMillis * NANOSECONDS_IN_A_MILLISECOND;
+	}
+
+	public void advance(long millis) {
+		if (millis < 0) {
+			throw new IllegalArgumentException("Simulated time cannot run backwards: " + millis);
+		}
+		currentTimeNanos += millis * NANOSECONDS_IN_A_MILLISECOND;
+	}
+
+	public void advanceNanos(long nanos) {
+		if (nanos < 0) {
+			throw new IllegalArgumentException("Simulated time cannot run backwards: " + nanos);
+		}
+		currentTimeNanos += nanos;
+	}
+
+	@Override
+	public long currentTimeMillis() {
+		return Math.floorDiv(currentTimeNanos, NANOSECONDS_IN_A_MILLISECOND);
+	}
+
+	@Override
+	public long nanoTime() {
+		return currentTimeNanos;
+	}
+}
@@ -0,0 +1,5 @@
+package timer;
+
+public enum TickPhase {
+	INPUT_DRAIN, ENEMY_UPDATE, COLLISION, REPAINT_REQUEST, PAINT
+}
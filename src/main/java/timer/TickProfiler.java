@@ -0,0 +1,75 @@
+package timer;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import wrappers.SystemWrapper;
+
+public class TickProfiler {
+
+	private static final TickPhase[] PHASES = TickPhase.values();
+	private final SystemWrapper systemWrapper;
+	private final PhaseStats[] phaseStats = new PhaseStats[PHASES.length];
+	private long nestedNanoseconds;
+
+	public TickProfiler(SystemWrapper systemWrapper) {
+		this.systemWrapper = systemWrapper;
+		for (int i = 0; i < phaseStats.length; i++) {
+			phaseStats[i] = new PhaseStats();
+		}
+	}
+
+	public long start() {
+		return systemWrapper.nanoTime();
+	}
+
+	public long record(TickPhase phase, long startNanoseconds) {
+		long end = systemWrapper.nanoTime();
+		phaseStats[phase.ordinal()].record(end - startNanoseconds);
+		return end;
+	}
+
+	// Exclusive phases subtract the time of nested phases recorded inside them, so no
+	// nanosecond is counted in two histograms. Only the tick thread may use these.
+	public long startExclusive() {
+		nestedNanoseconds = 0;
+		return systemWrapper.nanoTime();
+	}
+
+	public long recordExclusive(TickPhase phase, long startNanoseconds) {
+		long end = systemWrapper.nanoTime();
+		phaseStats[phase.ordinal()].record(end - startNanoseconds - nestedNanoseconds);
+		nestedNanoseconds = 0;
+		return end;
+	}
+
+	public void recordNested(TickPhase phase, long startNanoseconds) {
+		long elapsed = systemWrapper.nanoTime() - startNanoseconds;
+		phaseStats[phase.ordinal()].record(elapsed);
+		nestedNanoseconds += elapsed;
+	}
+
+	public PhaseStats getPhaseStats(TickPhase phase) {
+		return phaseStats[phase.ordinal()];
+	}
+
+	public void register(MBeanServer mBeanServer, String domain) throws JMException {
+		for (TickPhase phase : PHASES) {
+			mBeanServer.registerMBean(phaseStats[phase.ordinal()], objectName(domain, phase));
+		}
+	}
+
+	public void unregister(MBeanServer mBeanServer, String domain) throws JMException {
+		for (TickPhase phase : PHASES) {
+			ObjectName objectName = objectName(domain, phase);
+			if (mBeanServer.isRegistered(objectName)) {
+				mBeanServer.unregisterMBean(objectName);
+			}
+		}
+	}
+
+	public static ObjectName objectName(String domain, TickPhase phase) throws JMException {
+		return new ObjectName(domain + ":type=TickProfiler,phase=" + phase.name());
+	}
+}
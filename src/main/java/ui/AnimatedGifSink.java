@@ -0,0 +1,84 @@
+package ui;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+
+public class AnimatedGifSink implements FrameSink {
+
+	private static final String METADATA_FORMAT = "javax_imageio_gif_image_1.0";
+	private final ImageWriter writer;
+	private final ImageOutputStream output;
+	private final int delayHundredths;
+	private boolean firstFrame = true;
+
+	public AnimatedGifSink(Path file, int frameDelayMillis) throws IOException {
+		if (frameDelayMillis < 0) {
+			throw new IllegalArgumentException("Frame delay cannot be negative: " + frameDelayMillis);
+		}
+		this.writer = ImageIO.getImageWritersByFormatName("gif").next();
+		this.output = ImageIO.createImageOutputStream(file.toFile());
+		this.delayHundredths = frameDelayMillis / 10;
+		writer.setOutput(output);
+		writer.prepareWriteSequence(null);
+	}
+
+	@Override
+	public synchronized void write(long frameNumber, BufferedImage frame) throws IOException {
+		ImageWriteParam param = writer.getDefaultWriteParam();
+		IIOMetadata metadata = writer.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(frame),
+				param);
+		IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(METADATA_FORMAT);
+		IIOMetadataNode graphicControl = child(root, "GraphicControlExtension");
+		graphicControl.setAttribute("disposalMethod", "none");
+		graphicControl.setAttribute("userInputFlag", "FALSE");
+		graphicControl.setAttribute("transparentColorFlag", "FALSE");
+		graphicControl.setAttribute("delayTime", Integer.toString(delayHundredths));
+		graphicControl.setAttribute("transparentColorIndex", "0");
+		if (firstFrame) {
+			IIOMetadataNode loop = new IIOMetadataNode("ApplicationExtension");
+			loop.setAttribute("applicationID", "NETSCAPE");
+			loop.setAttribute("authenticationCode", "2.0");
+			loop.setUserObject(new byte[] { 1, 0, 0 });
+			child(root, "ApplicationExtensions").appendChild(loop);
+			firstFrame = false;
+		}
+		metadata.setFromTree(METADATA_FORMAT, root);
+		writer.writeToSequence(new IIOImage(frame, null, metadata), param);
+	}
+
+	@Override
+	public boolean requiresSequentialWrites() {
+		return true;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		try {
+			writer.endWriteSequence();
+		} finally {
+			output.close();
+			writer.dispose();
+		}
+	}
+
+	private static IIOMetadataNode child(IIOMetadataNode root, String name) {
+		for (int i = 0; i < root.getLength(); i++) {
+			if (root.item(i).getNodeName().equals(name)) {
+				return (IIOMetadataNode) root.item(i);
+			}
+		}
+		IIOMetadataNode node = new IIOMetadataNode(name);
+		root.appendChild(node);
+		return node;
+	}
+}
@@ -0,0 +1,109 @@
+package ui;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+import engine.GameEngine;
+import tiles.TileGrid;
+
+public class BackgroundLayer {
+
+	private final Component owner;
+	private final TilePainter tilePainter;
+	private BufferedImage terrain;
+	private VolatileImage accelerated;
+	private boolean acceleratedStale = true;
+	private TileGrid renderedTiles;
+	private int renderedVersion;
+	private int renderedTileWidth;
+	private int renderedTileHeight;
+	private int rebuilds;
+
+	public BackgroundLayer(Component owner, TilePainter tilePainter) {
+		this.owner = owner;
+		this.tilePainter = tilePainter;
+	}
+
+	public void draw(Graphics graphics, GameEngine gameEngine, int tileWidth, int tileHeight) {
+		refresh(gameEngine, tileWidth, tileHeight);
+		do {
+			graphics.drawImage(currentImage(), 0, 0, null);
+		} while (accelerated != null && accelerated.contentsLost());
+	}
+
+	public void drawCell(Graphics graphics, GameEngine gameEngine, int x, int y, int tileWidth, int tileHeight) {
+		refresh(gameEngine, tileWidth, tileHeight);
+		int left = x * tileWidth;
+		int top = y * tileHeight;
+		do {
+			graphics.drawImage(currentImage(), left, top, left + tileWidth, top + tileHeight, left, top,
+					left + tileWidth, top + tileHeight, null);
+		} while (accelerated != null && accelerated.contentsLost());
+	}
+
+	public int getRebuilds() {
+		return rebuilds;
+	}
+
+	private void refresh(GameEngine gameEngine, int tileWidth, int tileHeight) {
+		TileGrid tiles = gameEngine.getTiles();
+		int width = Math.max(1, gameEngine.getLevelHorizontalDimension() * tileWidth);
+		int height = Math.max(1, gameEngine.getLevelVerticalDimension() * tileHeight);
+		if (terrain == null || terrain.getWidth() != width || terrain.getHeight() != height || tiles != renderedTiles
+				|| tiles.getTerrainVersion() != renderedVersion || tileWidth != renderedTileWidth
+				|| tileHeight != renderedTileHeight) {
+			rebuild(gameEngine, width, height, tileWidth, tileHeight);
+		}
+	}
+
+	private void rebuild(GameEngine gameEngine, int width, int height, int tileWidth, int tileHeight) {
+		if (terrain == null || terrain.getWidth() != width || terrain.getHeight() != height) {
+			terrain = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+			releaseAccelerated();
+		}
+		Graphics graphics = terrain.getGraphics();
+		graphics.setColor(owner.getBackground());
+		graphics.fillRect(0, 0, width, height);
+		tilePainter.paintTerrain(graphics, gameEngine, tileWidth, tileHeight);
+		graphics.dispose();
+		renderedTiles = gameEngine.getTiles();
+		renderedVersion = renderedTiles.getTerrainVersion();
+		renderedTileWidth = tileWidth;
+		renderedTileHeight = tileHeight;
+		acceleratedStale = true;
+		rebuilds++;
+	}
+
+	private Image currentImage() {
+		GraphicsConfiguration configuration = owner.getGraphicsConfiguration();
+		if (configuration == null) {
+			return terrain;
+		}
+		int status = accelerated == null ? VolatileImage.IMAGE_INCOMPATIBLE : accelerated.validate(configuration);
+		if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+			releaseAccelerated();
+			accelerated = owner.createVolatileImage(terrain.getWidth(), terrain.getHeight());
+			if (accelerated == null) {
+				return terrain;
+			}
+			acceleratedStale = true;
+		} else if (status == VolatileImage.IMAGE_RESTORED) {
+			acceleratedStale = true;
+		}
+		if (acceleratedStale) {
+			Graphics graphics = accelerated.getGraphics();
+			graphics.drawImage(terrain, 0, 0, null);
+			graphics.dispose();
+			acceleratedStale = false;
+		}
+		return accelerated;
+	}
+
+	private void releaseAccelerated() {
+		if (accelerated != null) {
+			accelerated.flush();
+			accelerated = null;
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package ui;
+
+public class Camera {
+
+	private final int tileSize;
+	private final int columns;
+	private final int rows;
+	private int firstColumn;
+	private int firstRow;
+	private int lastColumn;
+	private int lastRow;
+
+	public Camera(int tileSize, int viewportWidth, int viewportHeight) {
+		if (tileSize <= 0 || viewportWidth <= 0 || viewportHeight <= 0) {
+			throw new IllegalArgumentException(
+					"Camera needs a positive tile size and viewport: " + tileSize + ", " + viewportWidth + "x"
+							+ viewportHeight);
+		}
+		this.tileSize = tileSize;
+		this.columns = (viewportWidth + tileSize - 1) / tileSize;
+		this.rows = (viewportHeight + tileSize - 1) / tileSize;
+	}
+
+	public void follow(int playerX, int playerY, int levelWidth, int levelHeight) {
+		firstColumn = clamp(playerX - columns / 2, Math.max(0, levelWidth - columns));
+		firstRow = clamp(playerY - rows / 2, Math.max(0, levelHeight - rows));
+		lastColumn = Math.min(levelWidth, firstColumn + columns);
+		lastRow = Math.min(levelHeight, firstRow + rows);
+	}
+
+	public int getTileSize() {
+		return tileSize;
+	}
+
+	public int getFirstColumn() {
+		return firstColumn;
+	}
+
+	public int getFirstRow() {
+		return firstRow;
+	}
+
+	public int getLastColumn() {
+		return lastColumn;
+	}
+
+	public int getLastRow() {
+		return lastRow;
+	}
+
+	public int getOffsetX() {
+		return firstColumn * tileSize;
+	}
+
+	public int getOffsetY() {
+		return firstRow * tileSize;
+	}
+
+	private static int clamp(int value, int max) {
+		return Math.max(0, Math.min(value, max));
+	}
+}
@@ -1,20 +1,96 @@
 package ui;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Locale;
 
 import engine.GameEngine;
+import timer.PerformanceStats;
 
 public class CoinDisplay {
 	private static final Font FIXED_FONT = new Font("Arial", Font.BOLD, 20);
+	private static final int TEXT_X = 50;
+	private static final int TEXT_BASELINE = 80;
+	private static final int LINE_HEIGHT = 24;
+	private static final int PERFORMANCE_LINES = 3;
+	private static final Rectangle BOUNDS = new Rectangle(TEXT_X, TEXT_BASELINE - 24, 300, 32);
 	private GameEngine gameEngine;
+	private PerformanceStats performanceStats;
+	private BufferedImage cache;
+	private int renderedCoins;
+	private int renderedFramesPerSecond;
+	private int renderedTickMicros;
+	private int renderedAllocation;
+	private int renders;
 
 	public CoinDisplay(GameEngine gameEngine) {
 		this.gameEngine = gameEngine;
 	}
 
+	public void setPerformanceStats(PerformanceStats performanceStats) {
+		this.performanceStats = performanceStats;
+		cache = null;
+	}
+
 	public void draw(Graphics graphics) {
+		if (isStale()) {
+			render();
+		}
+		graphics.drawImage(cache, BOUNDS.x, BOUNDS.y, null);
+	}
+
+	public boolean isStale() {
+		if (cache == null || gameEngine.getCollectedCoins() != renderedCoins) {
+			return true;
+		}
+		return performanceStats != null && (performanceStats.getFramesPerSecond() != renderedFramesPerSecond
+				|| performanceStats.getTickMicros() != renderedTickMicros
+				|| performanceStats.getAllocationKilobytesPerSecond() != renderedAllocation);
+	}
+
+	public Rectangle getBounds() {
+		Rectangle bounds = new Rectangle(BOUNDS);
+		if (performanceStats != null) {
+			bounds.height += PERFORMANCE_LINES * LINE_HEIGHT;
+		}
+		return bounds;
+	}
+
+	int getRenders() {
+		return renders;
+	}
+
+	private void paintText(Graphics graphics, int x, int baseline) {
 		graphics.setColor(Color.BLACK);
 		graphics.setFont(FIXED_FONT);
-		graphics.drawString("Coins Collected: " + gameEngine.getCollectedCoins(), 50, 80);
+		graphics.drawString("Coins Collected: " + renderedCoins, x, baseline);
+		if (performanceStats != null) {
+			graphics.drawString("FPS: " + renderedFramesPerSecond, x, baseline + LINE_HEIGHT);
+			graphics.drawString(String.format(Locale.ROOT, "Tick: %.2f ms", renderedTickMicros / 1000.0), x,
+					baseline + 2 * LINE_HEIGHT);
+			graphics.drawString(
+					renderedAllocation < 0 ? "Alloc: n/a" : "Alloc: " + renderedAllocation + " KB/s", x,
+					baseline + 3 * LINE_HEIGHT);
+		}
+	}
+
+	private void render() {
+		renderedCoins = gameEngine.getCollectedCoins();
+		if (performanceStats != null) {
+			renderedFramesPerSecond = performanceStats.getFramesPerSecond();
+			renderedTickMicros = performanceStats.getTickMicros();
+			renderedAllocation = performanceStats.getAllocationKilobytesPerSecond();
+		}
+		Rectangle bounds = getBounds();
+		if (cache == null || cache.getHeight() != bounds.height) {
+			cache = new BufferedImage(bounds.width, bounds.height, BufferedImage.TYPE_INT_ARGB);
+		}
+		Graphics2D graphics = cache.createGraphics();
+		graphics.setComposite(AlphaComposite.Clear);
+		graphics.fillRect(0, 0, bounds.width, bounds.height);
+		graphics.setComposite(AlphaComposite.SrcOver);
+		paintText(graphics, TEXT_X - BOUNDS.x, TEXT_BASELINE - BOUNDS.y);
+		graphics.dispose();
+		renders++;
 	}
 }
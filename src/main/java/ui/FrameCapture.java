@@ -0,0 +1,153 @@
+package ui;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import engine.GameEngine;
+import engine.TickListener;
+
+public class FrameCapture implements TickListener, Closeable {
+
+	private static final Logger LOGGER = Logger.getLogger(FrameCapture.class.getName());
+	private final FrameRenderer frameRenderer;
+	private final FrameSink frameSink;
+	private final int width;
+	private final int height;
+	private final BlockingQueue<BufferedImage> freeFrames;
+	private final ThreadPoolExecutor encoders;
+	private Camera camera;
+	private final AtomicLong encodedFrames = new AtomicLong();
+	private final AtomicLong failedFrames = new AtomicLong();
+	private int captureInterval = 1;
+	private long ticks;
+	private long capturedFrames;
+	private long droppedFrames;
+
+	public FrameCapture(GameEngine gameEngine, TilePainter tilePainter, CoinDisplay coinDisplay, int width,
+			int height, FrameSink frameSink, int encoderThreads, int queueCapacity) {
+		if (width <= 0 || height <= 0 || encoderThreads <= 0 || queueCapacity <= 0) {
+			throw new IllegalArgumentException("Capture needs a positive size, encoder count and queue capacity: "
+					+ width + "x" + height + ", " + encoderThreads + ", " + queueCapacity);
+		}
+		this.frameRenderer = new FrameRenderer(gameEngine, tilePainter, coinDisplay);
+		this.frameSink = frameSink;
+		this.width = width;
+		this.height = height;
+		if (frameSink.requiresSequentialWrites()) {
+			encoderThreads = 1;
+		}
+		this.freeFrames = new ArrayBlockingQueue<>(queueCapacity + encoderThreads);
+		for (int i = 0; i < queueCapacity + encoderThreads; i++) {
+			freeFrames.add(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB));
+		}
+		this.encoders = new ThreadPoolExecutor(encoderThreads, encoderThreads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+					Thread thread = new Thread(runnable, "frame-encoder");
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+
+	public void setCamera(Camera camera) {
+		this.camera = camera;
+		frameRenderer.setCamera(camera);
+	}
+
+	public void setRasterRenderer(RasterRenderer rasterRenderer) {
+		frameRenderer.setRasterRenderer(rasterRenderer);
+	}
+
+	public void setCaptureInterval(int captureInterval) {
+		if (captureInterval <= 0) {
+			throw new IllegalArgumentException("Capture interval must be positive: " + captureInterval);
+		}
+		this.captureInterval = captureInterval;
+	}
+
+	@Override
+	public void onTick(GameEngine gameEngine) {
+		if (ticks++ % captureInterval != 0) {
+			return;
+		}
+		BufferedImage frame = freeFrames.poll();
+		if (frame == null) {
+			droppedFrames++;
+			return;
+		}
+		render(gameEngine, frame);
+		long frameNumber = capturedFrames;
+		try {
+			encoders.execute(() -> encode(frameNumber, frame));
+			capturedFrames++;
+		} catch (RejectedExecutionException e) {
+			freeFrames.add(frame);
+			droppedFrames++;
+		}
+	}
+
+	public long getCapturedFrames() {
+		return capturedFrames;
+	}
+
+	public long getDroppedFrames() {
+		return droppedFrames;
+	}
+
+	public long getEncodedFrames() {
+		return encodedFrames.get();
+	}
+
+	public long getFailedFrames() {
+		return failedFrames.get();
+	}
+
+	@Override
+	public void close() throws IOException {
+		encoders.shutdown();
+		try {
+			encoders.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			frameSink.close();
+		}
+	}
+
+	private void render(GameEngine gameEngine, BufferedImage frame) {
+		Graphics graphics = frame.getGraphics();
+		try {
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, width, height);
+			int tileWidth = width / Math.max(1, gameEngine.getLevelHorizontalDimension());
+			int tileHeight = height / Math.max(1, gameEngine.getLevelVerticalDimension());
+			if (camera == null && (tileWidth == 0 || tileHeight == 0)) {
+				setCamera(new Camera(1, width, height));
+			}
+			frameRenderer.render(graphics, Math.max(1, tileWidth), Math.max(1, tileHeight));
+		} finally {
+			graphics.dispose();
+		}
+	}
+
+	private void encode(long frameNumber, BufferedImage frame) {
+		try {
+			frameSink.write(frameNumber, frame);
+			encodedFrames.incrementAndGet();
+		} catch (IOException | RuntimeException e) {
+			failedFrames.incrementAndGet();
+			LOGGER.log(Level.SEVERE, e.toString(), e);
+		} finally {
+			freeFrames.add(frame);
+		}
+	}
+}
@@ -0,0 +1,5 @@
+package ui;
+
+public interface FramePresenter {
+	void present();
+}
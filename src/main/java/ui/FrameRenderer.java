@@ -0,0 +1,111 @@
+package ui;
+
+import java.awt.*;
+
+import engine.GameEngine;
+import engine.InputCommand;
+import timer.TickPhase;
+import timer.TickProfiler;
+
+class FrameRenderer {
+
+	private final GameEngine gameEngine;
+	private final TilePainter tilePainter;
+	private final CoinDisplay coinDisplay;
+	private BackgroundLayer backgroundLayer;
+	private Camera camera;
+	private RasterRenderer rasterRenderer;
+	private TickProfiler tickProfiler;
+
+	FrameRenderer(GameEngine gameEngine, TilePainter tilePainter, CoinDisplay coinDisplay) {
+		this.gameEngine = gameEngine;
+		this.tilePainter = tilePainter;
+		this.coinDisplay = coinDisplay;
+	}
+
+	void setBackgroundLayer(BackgroundLayer backgroundLayer) {
+		this.backgroundLayer = backgroundLayer;
+	}
+
+	void setCamera(Camera camera) {
+		this.camera = camera;
+	}
+
+	void setRasterRenderer(RasterRenderer rasterRenderer) {
+		this.rasterRenderer = rasterRenderer;
+	}
+
+	void setTickProfiler(TickProfiler tickProfiler) {
+		this.tickProfiler = tickProfiler;
+	}
+
+	void render(Graphics graphics, int tileWidth, int tileHeight) {
+		if (tickProfiler == null) {
+			draw(graphics, tileWidth, tileHeight);
+		} else {
+			long start = tickProfiler.start();
+			draw(graphics, tileWidth, tileHeight);
+			tickProfiler.record(TickPhase.PAINT, start);
+		}
+	}
+
+	private void draw(Graphics graphics, int tileWidth, int tileHeight) {
+		if (rasterRenderer != null) {
+			renderRaster(graphics, tileWidth, tileHeight);
+			return;
+		}
+		if (camera != null) {
+			renderViewport(graphics);
+			return;
+		}
+		if (backgroundLayer == null) {
+			tilePainter.paintTiles(graphics, gameEngine, tileWidth, tileHeight);
+		} else {
+			backgroundLayer.draw(graphics, gameEngine, tileWidth, tileHeight);
+			tilePainter.paintDynamicLayer(graphics, gameEngine, tileWidth, tileHeight);
+		}
+		tilePainter.paintPlayer(graphics, gameEngine.getPlayerXCoordinate(), gameEngine.getPlayerYCoordinate(),
+				tileWidth, tileHeight);
+		coinDisplay.draw(graphics);
+	}
+
+	private void renderRaster(Graphics graphics, int tileWidth, int tileHeight) {
+		if (camera == null) {
+			graphics.drawImage(rasterRenderer.render(gameEngine, tileWidth, tileHeight), 0, 0, null);
+		} else {
+			camera.follow(gameEngine.getPlayerXCoordinate(), gameEngine.getPlayerYCoordinate(),
+					gameEngine.getLevelHorizontalDimension(), gameEngine.getLevelVerticalDimension());
+			graphics.drawImage(rasterRenderer.render(gameEngine, camera.getTileSize(), camera.getTileSize(),
+					camera.getFirstColumn(), camera.getFirstRow(), camera.getLastColumn(), camera.getLastRow()), 0, 0,
+					null);
+		}
+		coinDisplay.draw(graphics);
+	}
+
+	private void renderViewport(Graphics graphics) {
+		int playerX = gameEngine.getPlayerXCoordinate();
+		int playerY = gameEngine.getPlayerYCoordinate();
+		camera.follow(playerX, playerY, gameEngine.getLevelHorizontalDimension(),
+				gameEngine.getLevelVerticalDimension());
+		int tileSize = camera.getTileSize();
+		graphics.translate(-camera.getOffsetX(), -camera.getOffsetY());
+		tilePainter.paintTiles(graphics, gameEngine, tileSize, tileSize, camera.getFirstColumn(),
+				camera.getFirstRow(), camera.getLastColumn(), camera.getLastRow());
+		tilePainter.paintPlayer(graphics, playerX, playerY, tileSize, tileSize);
+		graphics.translate(camera.getOffsetX(), camera.getOffsetY());
+		coinDisplay.draw(graphics);
+	}
+
+	static boolean handleKey(GameEngine gameEngine, int key) {
+		if (key == Event.LEFT) {
+			gameEngine.submitInput(InputCommand.LEFT);
+		} else if (key == Event.RIGHT) {
+			gameEngine.submitInput(InputCommand.RIGHT);
+		} else if (key == Event.UP) {
+			gameEngine.submitInput(InputCommand.UP);
+		} else if (key == Event.DOWN) {
+			gameEngine.submitInput(InputCommand.DOWN);
+		}
+		return true;
+	}
+}
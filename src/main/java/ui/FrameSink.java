@@ -0,0 +1,13 @@
+package ui;
+
+import java.awt.image.BufferedImage;
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface FrameSink extends Closeable {
+	void write(long frameNumber, BufferedImage frame) throws IOException;
+
+	default boolean requiresSequentialWrites() {
+		return false;
+	}
+}
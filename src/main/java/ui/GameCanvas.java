@@ -0,0 +1,94 @@
+package ui;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+
+import engine.GameEngine;
+import timer.TickProfiler;
+
+public class GameCanvas extends Canvas implements FramePresenter {
+
+	private static final long serialVersionUID = 1L;
+	private final GameEngine gameEngine;
+	private final TilePainter tilePainter;
+	private final FrameRenderer frameRenderer;
+	private final int numBuffers;
+	private transient BufferStrategy bufferStrategy;
+	private int tileWidth;
+	private int tileHeight;
+	private Camera camera;
+	private long presentedFrames;
+
+	public GameCanvas(GameEngine gameEngine, TilePainter tilePainter, CoinDisplay coinDisplay, int numBuffers) {
+		if (numBuffers < 2 || numBuffers > 3) {
+			throw new IllegalArgumentException("Active rendering needs two or three buffers: " + numBuffers);
+		}
+		this.gameEngine = gameEngine;
+		this.tilePainter = tilePainter;
+		this.frameRenderer = new FrameRenderer(gameEngine, tilePainter, coinDisplay);
+		this.numBuffers = numBuffers;
+		setIgnoreRepaint(true);
+	}
+
+	public void init() {
+		if (camera == null) {
+			tileWidth = getWidth() / gameEngine.getLevelHorizontalDimension();
+			tileHeight = getHeight() / gameEngine.getLevelVerticalDimension();
+		} else {
+			tileWidth = camera.getTileSize();
+			tileHeight = camera.getTileSize();
+		}
+		tilePainter.prepareSprites(tileWidth, tileHeight);
+		createBufferStrategy(numBuffers);
+		bufferStrategy = getBufferStrategy();
+		requestFocus();
+	}
+
+	public void setBackgroundLayer(BackgroundLayer backgroundLayer) {
+		frameRenderer.setBackgroundLayer(backgroundLayer);
+	}
+
+	public void setCamera(Camera camera) {
+		this.camera = camera;
+		frameRenderer.setCamera(camera);
+	}
+
+	public void setRasterRenderer(RasterRenderer rasterRenderer) {
+		frameRenderer.setRasterRenderer(rasterRenderer);
+	}
+
+	public void setTickProfiler(TickProfiler tickProfiler) {
+		frameRenderer.setTickProfiler(tickProfiler);
+	}
+
+	@Override
+	public void present() {
+		if (bufferStrategy == null) {
+			return;
+		}
+		do {
+			do {
+				Graphics graphics = bufferStrategy.getDrawGraphics();
+				try {
+					graphics.setColor(getBackground());
+					graphics.fillRect(0, 0, getWidth(), getHeight());
+					frameRenderer.render(graphics, tileWidth, tileHeight);
+				} finally {
+					graphics.dispose();
+				}
+			} while (bufferStrategy.contentsRestored());
+			bufferStrategy.show();
+		} while (bufferStrategy.contentsLost());
+		Toolkit.getDefaultToolkit().sync();
+		presentedFrames++;
+	}
+
+	public long getPresentedFrames() {
+		return presentedFrames;
+	}
+
+	@Override
+	public boolean keyDown(Event evt, int key) {
+		return FrameRenderer.handleKey(gameEngine, key);
+	}
+}
@@ -2,19 +2,47 @@ package ui;
 
 import java.awt.*;
 
+import timer.TickPhase;
+import timer.TickProfiler;
 import values.TunableParameters;
 
-public class GameFrame extends Frame {
+public class GameFrame extends Frame implements FramePresenter {
 
 	private static final long serialVersionUID = 1L;
+	private transient TickProfiler tickProfiler;
 
 	public GameFrame(GamePanel gamePanel, WindowAdapterSystemExit windowAdapterSystemExit) {
+		addGameComponent(gamePanel, windowAdapterSystemExit);
+		gamePanel.init();
+		setVisible(true);
+	}
+
+	public GameFrame(GameCanvas gameCanvas, WindowAdapterSystemExit windowAdapterSystemExit) {
+		addGameComponent(gameCanvas, windowAdapterSystemExit);
+		gameCanvas.init();
+		setVisible(true);
+	}
+
+	public void setTickProfiler(TickProfiler tickProfiler) {
+		this.tickProfiler = tickProfiler;
+	}
+
+	@Override
+	public void present() {
+		long start = tickProfiler == null ? 0 : tickProfiler.start();
+		for (Component component : getComponents()) {
+			component.repaint();
+		}
+		if (tickProfiler != null) {
+			tickProfiler.record(TickPhase.REPAINT_REQUEST, start);
+		}
+	}
+
+	private void addGameComponent(Component component, WindowAdapterSystemExit windowAdapterSystemExit) {
 		setResizable(false);
 		addWindowListener(windowAdapterSystemExit);
-		gamePanel.setPreferredSize(new Dimension(TunableParameters.SCREEN_WIDTH, TunableParameters.SCREEN_HEIGHT));
-		add(gamePanel);
+		component.setPreferredSize(new Dimension(TunableParameters.SCREEN_WIDTH, TunableParameters.SCREEN_HEIGHT));
+		add(component);
 		pack();
-		gamePanel.init();
-		setVisible(true);
 	}
 }
@@ -1,45 +1,136 @@
 package ui;
 
 import java.awt.*;
+import java.util.Arrays;
 
 import engine.GameEngine;
-import tiles.TileType;
+import tiles.Cell;
+import tiles.DirtyCells;
+import timer.TickPhase;
+import timer.TickProfiler;
 
 public class GamePanel extends Panel {
 
 	private static final long serialVersionUID = 1L;
+	private static final int FULL_REPAINT_DIVISOR = 4;
 	private final GameEngine gameEngine;
 	private final TilePainter tilePainter;
 	private final CoinDisplay coinDisplay;
+	private final FrameRenderer frameRenderer;
+	private final DirtyCells pendingCells = new DirtyCells();
+	private long[] paintingCells = new long[16];
 	private Image dbImage;
 	private int tileWidth;
 	private int tileHeight;
+	private boolean dirtyRegionRendering;
+	private boolean fullRepaintPending = true;
+	private BackgroundLayer backgroundLayer;
+	private Rectangle coinDisplayBounds;
+	private Camera camera;
+	private RasterRenderer rasterRenderer;
+	private TickProfiler tickProfiler;
 
 	public GamePanel(GameEngine gameEngine, TilePainter tilePainter, CoinDisplay coinDisplay) {
 		this.gameEngine = gameEngine;
 		this.tilePainter = tilePainter;
 		this.coinDisplay = coinDisplay;
+		this.frameRenderer = new FrameRenderer(gameEngine, tilePainter, coinDisplay);
 		repaint();
 	}
 
 	public void init() {
-		tileWidth = this.getWidth() / gameEngine.getLevelHorizontalDimension();
-		tileHeight = this.getHeight() / gameEngine.getLevelVerticalDimension();
+		if (camera == null) {
+			tileWidth = this.getWidth() / gameEngine.getLevelHorizontalDimension();
+			tileHeight = this.getHeight() / gameEngine.getLevelVerticalDimension();
+		} else {
+			tileWidth = camera.getTileSize();
+			tileHeight = camera.getTileSize();
+		}
+		tilePainter.prepareSprites(tileWidth, tileHeight);
 	}
 
 	@Override
 	public void paint(Graphics graphics) {
 		super.paint(graphics);
 		requestFocusInWindow();
-		Point playerPosition = new Point(gameEngine.getPlayerXCoordinate(), gameEngine.getPlayerYCoordinate());
-		Rectangle tileDimensions = new Rectangle(tileWidth, tileHeight);
-		tilePainter.paintTiles(graphics, gameEngine, tileWidth, tileHeight);
-		tilePainter.paintPlayer(graphics, playerPosition, tileDimensions, TileType.PLAYER);
-		coinDisplay.draw(graphics);
+		frameRenderer.render(graphics, tileWidth, tileHeight);
+	}
+
+	public void setBackgroundLayer(BackgroundLayer backgroundLayer) {
+		this.backgroundLayer = backgroundLayer;
+		frameRenderer.setBackgroundLayer(backgroundLayer);
+		fullRepaintPending = true;
+	}
+
+	public void setCamera(Camera camera) {
+		this.camera = camera;
+		frameRenderer.setCamera(camera);
+		fullRepaintPending = true;
+	}
+
+	public void setRasterRenderer(RasterRenderer rasterRenderer) {
+		this.rasterRenderer = rasterRenderer;
+		frameRenderer.setRasterRenderer(rasterRenderer);
+		fullRepaintPending = true;
+	}
+
+	public void setTickProfiler(TickProfiler tickProfiler) {
+		this.tickProfiler = tickProfiler;
+		frameRenderer.setTickProfiler(tickProfiler);
+	}
+
+	public void setDirtyRegionRendering(boolean dirtyRegionRendering) {
+		this.dirtyRegionRendering = dirtyRegionRendering;
+		if (dirtyRegionRendering) {
+			gameEngine.trackChanges();
+		}
+		fullRepaintPending = true;
+	}
+
+	@Override
+	public void repaint() {
+		if (!dirtyRegionRendering || camera != null || rasterRenderer != null || dbImage == null || tileWidth == 0
+				|| tileHeight == 0) {
+			super.repaint();
+			return;
+		}
+		synchronized (pendingCells) {
+			int first = pendingCells.size();
+			gameEngine.drainChangesTo(pendingCells);
+			if (coinDisplay.isStale()) {
+				markCoinDisplayCells();
+			}
+			int levelCells = gameEngine.getLevelHorizontalDimension() * gameEngine.getLevelVerticalDimension();
+			if (fullRepaintPending || pendingCells.size() > levelCells / FULL_REPAINT_DIVISOR) {
+				fullRepaintPending = true;
+				super.repaint();
+				return;
+			}
+			for (int i = first; i < pendingCells.size(); i++) {
+				long cell = pendingCells.get(i);
+				super.repaint(Cell.x(cell) * tileWidth, Cell.y(cell) * tileHeight, tileWidth, tileHeight);
+			}
+		}
 	}
 
 	@Override
 	public void update(Graphics graphics) {
+		if (dirtyRegionRendering && camera == null && rasterRenderer == null && dbImage != null
+				&& !fullRepaintPending) {
+			long start = tickProfiler == null ? 0 : tickProfiler.start();
+			updateChangedCells(graphics);
+			if (tickProfiler != null) {
+				tickProfiler.record(TickPhase.PAINT, start);
+			}
+			return;
+		}
+		if (dirtyRegionRendering) {
+			synchronized (pendingCells) {
+				gameEngine.clearChanges();
+				pendingCells.clear();
+				fullRepaintPending = false;
+			}
+		}
 		if (dbImage == null) {
 			dbImage = createImage(getWidth(), getHeight());
 		}
@@ -51,18 +142,69 @@ public class GamePanel extends Panel {
 		graphics.drawImage(dbImage, 0, 0, this);
 	}
 
-	@Override
-	public boolean keyDown(Event evt, int key) {
-		if (key == Event.LEFT) {
-			gameEngine.keyLeft();
-		} else if (key == Event.RIGHT) {
-			gameEngine.keyRight();
-		} else if (key == Event.UP) {
-			gameEngine.keyUp();
-		} else if (key == Event.DOWN) {
-			gameEngine.keyDown();
+	private void updateChangedCells(Graphics graphics) {
+		int count;
+		synchronized (pendingCells) {
+			count = pendingCells.size();
+			if (paintingCells.length < count) {
+				paintingCells = Arrays.copyOf(paintingCells, Math.max(count, paintingCells.length * 2));
+			}
+			for (int i = 0; i < count; i++) {
+				paintingCells[i] = pendingCells.get(i);
+			}
+			pendingCells.clear();
+		}
+		tilePainter.resetDrawCalls();
+		Graphics dbg = dbImage.getGraphics();
+		Rectangle coinDisplayBounds = getCoinDisplayBounds();
+		boolean coinDisplayTouched = false;
+		for (int i = 0; i < count; i++) {
+			int x = Cell.x(paintingCells[i]);
+			int y = Cell.y(paintingCells[i]);
+			paintChangedCell(dbg, x, y);
+			coinDisplayTouched |= coinDisplayBounds.intersects(x * tileWidth, y * tileHeight, tileWidth, tileHeight);
+		}
+		if (coinDisplayTouched) {
+			coinDisplay.draw(dbg);
 		}
+		dbg.dispose();
+		graphics.drawImage(dbImage, 0, 0, this);
+	}
 
-		return true;
+	private void paintChangedCell(Graphics dbg, int x, int y) {
+		if (backgroundLayer == null) {
+			dbg.setColor(getBackground());
+			dbg.fillRect(x * tileWidth, y * tileHeight, tileWidth, tileHeight);
+			tilePainter.paintCell(dbg, gameEngine, x, y, tileWidth, tileHeight);
+		} else {
+			backgroundLayer.drawCell(dbg, gameEngine, x, y, tileWidth, tileHeight);
+			tilePainter.paintDynamicCell(dbg, gameEngine, x, y, tileWidth, tileHeight);
+		}
+		if (x == gameEngine.getPlayerXCoordinate() && y == gameEngine.getPlayerYCoordinate()) {
+			tilePainter.paintPlayer(dbg, x, y, tileWidth, tileHeight);
+		}
+	}
+
+	private Rectangle getCoinDisplayBounds() {
+		if (coinDisplayBounds == null) {
+			coinDisplayBounds = coinDisplay.getBounds();
+		}
+		return coinDisplayBounds;
+	}
+
+	private void markCoinDisplayCells() {
+		Rectangle bounds = getCoinDisplayBounds();
+		int lastX = (bounds.x + bounds.width - 1) / tileWidth;
+		int lastY = (bounds.y + bounds.height - 1) / tileHeight;
+		for (int y = bounds.y / tileHeight; y <= lastY; y++) {
+			for (int x = bounds.x / tileWidth; x <= lastX; x++) {
+				pendingCells.mark(x, y);
+			}
+		}
+	}
+
+	@Override
+	public boolean keyDown(Event evt, int key) {
+		return FrameRenderer.handleKey(gameEngine, key);
 	}
 }
@@ -0,0 +1,20 @@
+package ui;
+
+import timer.PerformanceStats;
+
+public class MeasuredFramePresenter implements FramePresenter {
+
+	private final FramePresenter framePresenter;
+	private final PerformanceStats performanceStats;
+
+	public MeasuredFramePresenter(FramePresenter framePresenter, PerformanceStats performanceStats) {
+		this.framePresenter = framePresenter;
+		this.performanceStats = performanceStats;
+	}
+
+	@Override
+	public void present() {
+		framePresenter.present();
+		performanceStats.frameFinished();
+	}
+}
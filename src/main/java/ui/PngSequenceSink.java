@@ -0,0 +1,26 @@
+package ui;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+public class PngSequenceSink implements FrameSink {
+
+	private final Path directory;
+
+	public PngSequenceSink(Path directory) throws IOException {
+		this.directory = Files.createDirectories(directory);
+	}
+
+	@Override
+	public void write(long frameNumber, BufferedImage frame) throws IOException {
+		ImageIO.write(frame, "png", directory.resolve(String.format("frame-%06d.png", frameNumber)).toFile());
+	}
+
+	@Override
+	public void close() {
+	}
+}
@@ -0,0 +1,134 @@
+package ui;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+import engine.Enemies;
+import engine.GameEngine;
+import tiles.TileGrid;
+import tiles.TileType;
+import values.TileColorMap;
+
+public class RasterRenderer {
+
+	private static final TileType[] TILE_TYPES = TileType.values();
+	private final int[] colors = new int[TILE_TYPES.length];
+	private int background = Color.WHITE.getRGB();
+	private BufferedImage image;
+	private int[] pixels;
+	private int[] ovalColumns = new int[16];
+	private boolean[] ovalMask = new boolean[0];
+	private int maskWidth;
+	private int maskHeight;
+
+	public RasterRenderer() {
+		for (TileType tileType : TILE_TYPES) {
+			colors[tileType.ordinal()] = TileColorMap.get(tileType).getRGB();
+		}
+	}
+
+	public void setBackground(Color color) {
+		background = color.getRGB();
+	}
+
+	public BufferedImage render(GameEngine game, int tileWidth, int tileHeight) {
+		return render(game, tileWidth, tileHeight, 0, 0, game.getLevelHorizontalDimension(),
+				game.getLevelVerticalDimension());
+	}
+
+	public BufferedImage render(GameEngine game, int tileWidth, int tileHeight, int firstX, int firstY, int lastX,
+			int lastY) {
+		if (tileWidth <= 0 || tileHeight <= 0) {
+			throw new IllegalArgumentException("Tile size must be positive: " + tileWidth + "x" + tileHeight);
+		}
+		int columns = Math.max(0, lastX - firstX);
+		int rows = Math.max(0, lastY - firstY);
+		ensureImage(Math.max(1, columns * tileWidth), Math.max(1, rows * tileHeight));
+		ensureOvalMask(tileWidth, tileHeight);
+		if (ovalColumns.length < columns) {
+			ovalColumns = new int[columns];
+		}
+		int width = image.getWidth();
+		Arrays.fill(pixels, background);
+		TileGrid tiles = game.getTiles();
+		Enemies enemies = game.getEnemies();
+		for (int row = 0; row < rows; row++) {
+			int y = firstY + row;
+			int rowStart = row * tileHeight * width;
+			int ovals = 0;
+			for (int column = 0; column < columns; column++) {
+				int x = firstX + column;
+				TileType tileType = tiles.get(x, y);
+				int color;
+				if (enemies.isOccupied(x, y)) {
+					color = colors[TileType.ENEMY.ordinal()];
+				} else if (tileType == TileType.COIN || tileType == TileType.POWER_UP) {
+					color = colors[TileType.PASSABLE.ordinal()];
+					ovalColumns[ovals++] = column;
+				} else if (tileType != null) {
+					color = colors[tileType.ordinal()];
+				} else {
+					continue;
+				}
+				int start = rowStart + column * tileWidth;
+				Arrays.fill(pixels, start, start + tileWidth, color);
+			}
+			for (int line = 1; line < tileHeight; line++) {
+				System.arraycopy(pixels, rowStart, pixels, rowStart + line * width, width);
+			}
+			for (int i = 0; i < ovals; i++) {
+				int column = ovalColumns[i];
+				stampOval(rowStart + column * tileWidth, width, colors[tiles.get(firstX + column, y).ordinal()]);
+			}
+		}
+		int playerX = game.getPlayerXCoordinate() - firstX;
+		int playerY = game.getPlayerYCoordinate() - firstY;
+		if (playerX >= 0 && playerY >= 0 && playerX < columns && playerY < rows) {
+			int start = playerY * tileHeight * width + playerX * tileWidth;
+			for (int line = 0; line < tileHeight; line++) {
+				Arrays.fill(pixels, start + line * width, start + line * width + tileWidth,
+						colors[TileType.PLAYER.ordinal()]);
+			}
+		}
+		return image;
+	}
+
+	private void stampOval(int start, int width, int color) {
+		for (int line = 0; line < maskHeight; line++) {
+			int maskRow = line * maskWidth;
+			int pixelRow = start + line * width;
+			for (int column = 0; column < maskWidth; column++) {
+				if (ovalMask[maskRow + column]) {
+					pixels[pixelRow + column] = color;
+				}
+			}
+		}
+	}
+
+	private void ensureImage(int width, int height) {
+		if (image == null || image.getWidth() != width || image.getHeight() != height) {
+			image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+			pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+		}
+	}
+
+	private void ensureOvalMask(int tileWidth, int tileHeight) {
+		if (tileWidth == maskWidth && tileHeight == maskHeight) {
+			return;
+		}
+		maskWidth = tileWidth;
+		maskHeight = tileHeight;
+		ovalMask = new boolean[tileWidth * tileHeight];
+		double radiusX = tileWidth / 2.0;
+		double radiusY = tileHeight / 2.0;
+		for (int line = 0; line < tileHeight; line++) {
+			double dy = (line + 0.5 - radiusY) / radiusY;
+			for (int column = 0; column < tileWidth; column++) {
+				double dx = (column + 0.5 - radiusX) / radiusX;
+				ovalMask[line * tileWidth + column] = dx * dx + dy * dy <= 1;
+			}
+		}
+	}
+}
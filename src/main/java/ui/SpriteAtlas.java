@@ -0,0 +1,132 @@
+package ui;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import tiles.Cell;
+import tiles.TileType;
+import values.TileColorMap;
+
+public class SpriteAtlas {
+
+	private static final TileType[] TILE_TYPES = TileType.values();
+	private static final int STRIP_TILES = 32;
+	private final BufferedImage sheet;
+	private final int spriteWidth;
+	private final int spriteHeight;
+	private final Map<Long, Image> scaledAtlases = new HashMap<>();
+	private long lastSize = Long.MIN_VALUE;
+	private Image lastAtlas;
+
+	public SpriteAtlas(BufferedImage sheet) {
+		if (sheet.getWidth() % TILE_TYPES.length != 0 || sheet.getWidth() == 0 || sheet.getHeight() == 0) {
+			throw new IllegalArgumentException("Sprite sheet must hold one sprite per tile type in a single row: "
+					+ sheet.getWidth() + "x" + sheet.getHeight());
+		}
+		this.sheet = sheet;
+		this.spriteWidth = sheet.getWidth() / TILE_TYPES.length;
+		this.spriteHeight = sheet.getHeight();
+	}
+
+	public static SpriteAtlas fromFile(String location) {
+		try {
+			BufferedImage sheet = ImageIO.read(new File(location));
+			if (sheet == null) {
+				throw new IllegalArgumentException("Not a readable image: " + location);
+			}
+			return new SpriteAtlas(sheet);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public static SpriteAtlas fromColors(int spriteSize) {
+		BufferedImage sheet = new BufferedImage(spriteSize * TILE_TYPES.length, spriteSize,
+				BufferedImage.TYPE_INT_ARGB);
+		Graphics graphics = sheet.getGraphics();
+		for (TileType tileType : TILE_TYPES) {
+			graphics.setColor(TileColorMap.get(tileType));
+			int left = tileType.ordinal() * spriteSize;
+			if (tileType == TileType.COIN || tileType == TileType.POWER_UP) {
+				graphics.fillOval(left, 0, spriteSize, spriteSize);
+			} else {
+				graphics.fillRect(left, 0, spriteSize, spriteSize);
+			}
+		}
+		graphics.dispose();
+		return new SpriteAtlas(sheet);
+	}
+
+	public void prepare(int tileWidth, int tileHeight) {
+		atlasFor(tileWidth, tileHeight);
+	}
+
+	public void draw(Graphics graphics, TileType tileType, int x, int y, int tileWidth, int tileHeight) {
+		drawRun(graphics, tileType, x, y, 1, tileWidth, tileHeight);
+	}
+
+	public int drawRun(Graphics graphics, TileType tileType, int x, int y, int length, int tileWidth,
+			int tileHeight) {
+		Image atlas = atlasFor(tileWidth, tileHeight);
+		int sourceY = tileType.ordinal() * tileHeight;
+		int draws = 0;
+		for (int start = 0; start < length; start += STRIP_TILES) {
+			int stripWidth = Math.min(STRIP_TILES, length - start) * tileWidth;
+			int targetX = x + start * tileWidth;
+			graphics.drawImage(atlas, targetX, y, targetX + stripWidth, y + tileHeight, 0, sourceY, stripWidth,
+					sourceY + tileHeight, null);
+			draws++;
+		}
+		return draws;
+	}
+
+	public int getCachedSizes() {
+		return scaledAtlases.size();
+	}
+
+	private Image atlasFor(int tileWidth, int tileHeight) {
+		if (tileWidth <= 0 || tileHeight <= 0) {
+			throw new IllegalArgumentException("Tile size must be positive: " + tileWidth + "x" + tileHeight);
+		}
+		long size = Cell.pack(tileWidth, tileHeight);
+		if (size == lastSize) {
+			return lastAtlas;
+		}
+		Image atlas = scaledAtlases.computeIfAbsent(size, key -> scale(tileWidth, tileHeight));
+		lastSize = size;
+		lastAtlas = atlas;
+		return atlas;
+	}
+
+	private Image scale(int tileWidth, int tileHeight) {
+		BufferedImage atlas = createCompatibleImage(tileWidth * STRIP_TILES, tileHeight * TILE_TYPES.length);
+		Graphics2D graphics = atlas.createGraphics();
+		graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		for (int i = 0; i < TILE_TYPES.length; i++) {
+			int sourceX = i * spriteWidth;
+			int targetY = i * tileHeight;
+			for (int column = 0; column < STRIP_TILES; column++) {
+				int targetX = column * tileWidth;
+				graphics.drawImage(sheet, targetX, targetY, targetX + tileWidth, targetY + tileHeight, sourceX, 0,
+						sourceX + spriteWidth, spriteHeight, null);
+			}
+		}
+		graphics.dispose();
+		return atlas;
+	}
+
+	private static BufferedImage createCompatibleImage(int width, int height) {
+		if (GraphicsEnvironment.isHeadless()) {
+			return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		}
+		return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration()
+				.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+	}
+}
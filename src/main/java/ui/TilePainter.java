@@ -1,69 +1,279 @@
 package ui;
 
 import java.awt.*;
+import java.util.Arrays;
+import java.util.List;
 
-import engine.Enemy;
+import engine.Coin;
+import engine.Enemies;
 import engine.GameEngine;
+import engine.PowerUp;
+import tiles.TileGrid;
 import tiles.TileType;
 import values.TileColorMap;
 
 public class TilePainter {
 
+	private static final TileType[] TILE_TYPES = TileType.values();
+	private final Cells[] tileRuns = new Cells[TILE_TYPES.length];
+	private final Cells enemyRuns = new Cells();
+	private final Cells coinCells = new Cells();
+	private final Cells powerUpCells = new Cells();
+	private int drawCalls;
+	private SpriteAtlas spriteAtlas;
+
+	public TilePainter() {
+		for (int i = 0; i < tileRuns.length; i++) {
+			tileRuns[i] = new Cells();
+		}
+	}
+
+	public void setSpriteAtlas(SpriteAtlas spriteAtlas) {
+		this.spriteAtlas = spriteAtlas;
+	}
+
+	void prepareSprites(int tileWidth, int tileHeight) {
+		if (spriteAtlas != null && tileWidth > 0 && tileHeight > 0) {
+			spriteAtlas.prepare(tileWidth, tileHeight);
+		}
+	}
+
 	void paintTiles(Graphics graphics, GameEngine game, int tileWidth, int tileHeight) {
-		for (int x = 0; x < game.getLevelHorizontalDimension(); x++) {
-			for (int y = 0; y < game.getLevelVerticalDimension(); y++) {
-				paintSingleTile(graphics, game, x, y, tileWidth, tileHeight);
+		paintTiles(graphics, game, tileWidth, tileHeight, 0, 0, game.getLevelHorizontalDimension(),
+				game.getLevelVerticalDimension());
+	}
+
+	void paintTiles(Graphics graphics, GameEngine game, int tileWidth, int tileHeight, int firstX, int firstY,
+			int lastX, int lastY) {
+		drawCalls = 0;
+		collectRuns(game, false, firstX, firstY, lastX, lastY);
+		paintTileRuns(graphics, tileWidth, tileHeight);
+		paintCells(graphics, coinCells, TileType.COIN, tileWidth, tileHeight);
+		paintCells(graphics, powerUpCells, TileType.POWER_UP, tileWidth, tileHeight);
+		paintRuns(graphics, enemyRuns, TileType.ENEMY, tileWidth, tileHeight);
+	}
+
+	void paintTerrain(Graphics graphics, GameEngine game, int tileWidth, int tileHeight) {
+		drawCalls = 0;
+		collectRuns(game, true, 0, 0, game.getLevelHorizontalDimension(), game.getLevelVerticalDimension());
+		paintTileRuns(graphics, tileWidth, tileHeight);
+	}
+
+	void paintDynamicLayer(Graphics graphics, GameEngine game, int tileWidth, int tileHeight) {
+		drawCalls = 0;
+		List<Coin> coins = game.getCoins();
+		if (!coins.isEmpty()) {
+			setColor(graphics, Color.YELLOW);
+			for (int i = 0; i < coins.size(); i++) {
+				Coin coin = coins.get(i);
+				fillCell(graphics, TileType.COIN, coin.getX() * tileWidth, coin.getY() * tileHeight, tileWidth,
+						tileHeight);
+			}
+		}
+		List<PowerUp> powerUps = game.getPowerUps();
+		if (!powerUps.isEmpty()) {
+			setColor(graphics, Color.BLUE);
+			for (int i = 0; i < powerUps.size(); i++) {
+				PowerUp powerUp = powerUps.get(i);
+				fillCell(graphics, TileType.POWER_UP, powerUp.getX() * tileWidth, powerUp.getY() * tileHeight,
+						tileWidth, tileHeight);
+			}
+		}
+		Enemies enemies = game.getEnemies();
+		if (enemies.size() > 0) {
+			setColor(graphics, Color.RED);
+			for (int i = 0; i < enemies.size(); i++) {
+				fillCell(graphics, TileType.ENEMY, enemies.getX(i) * tileWidth, enemies.getY(i) * tileHeight,
+						tileWidth, tileHeight);
 			}
 		}
 	}
 
-	private void paintSingleTile(Graphics graphics, GameEngine game, int x, int y, int tileWidth, int tileHeight) {
-		TileType tileType = game.getTileFromCoordinates(x, y);
-		Rectangle rect = createRectangle(x, y, tileWidth, tileHeight);
+	void paintDynamicCell(Graphics graphics, GameEngine game, int x, int y, int tileWidth, int tileHeight) {
+		TileType tileType = game.getTiles().get(x, y);
+		if (tileType == TileType.COIN || tileType == TileType.POWER_UP) {
+			paintSingleCell(graphics, tileType, x, y, tileWidth, tileHeight);
+		}
+		if (game.getEnemies().isOccupied(x, y)) {
+			paintSingleCell(graphics, TileType.ENEMY, x, y, tileWidth, tileHeight);
+		}
+	}
 
-		if (tileType == TileType.COIN) {
-			paintCoin(graphics, rect);
-		} else if (tileType == TileType.POWER_UP) {
-			paintPowerUp(graphics, rect);
-		} else {
-			paintTile(graphics, rect, tileType);
+	void paintCell(Graphics graphics, GameEngine game, int x, int y, int tileWidth, int tileHeight) {
+		TileType tileType = game.getTiles().get(x, y);
+		if (tileType != null) {
+			setColor(graphics, TileColorMap.get(fillOf(tileType)));
+			fillCell(graphics, fillOf(tileType), x * tileWidth, y * tileHeight, tileWidth, tileHeight);
 		}
+		paintDynamicCell(graphics, game, x, y, tileWidth, tileHeight);
+	}
 
-		if (isEnemyAtPosition(game.getEnemy(), x, y)) {
-			paintEnemy(graphics, rect);
+	int getDrawCalls() {
+		return drawCalls;
+	}
+
+	void resetDrawCalls() {
+		drawCalls = 0;
+	}
+
+	private void collectRuns(GameEngine game, boolean terrainOnly, int firstX, int firstY, int lastX, int lastY) {
+		for (Cells runs : tileRuns) {
+			runs.clear();
+		}
+		enemyRuns.clear();
+		coinCells.clear();
+		powerUpCells.clear();
+		TileGrid tiles = game.getTiles();
+		Enemies enemies = game.getEnemies();
+		for (int y = firstY; y < lastY; y++) {
+			TileType runType = null;
+			int runStart = firstX;
+			int enemyRunStart = -1;
+			for (int x = firstX; x < lastX; x++) {
+				TileType tileType = tiles.get(x, y);
+				TileType fillType = terrainOnly ? terrainOf(tileType) : fillOf(tileType);
+				if (fillType != runType) {
+					addRun(runType, runStart, x, y);
+					runType = fillType;
+					runStart = x;
+				}
+				if (terrainOnly) {
+					continue;
+				}
+				if (tileType == TileType.COIN) {
+					coinCells.add(x, y, 1);
+				} else if (tileType == TileType.POWER_UP) {
+					powerUpCells.add(x, y, 1);
+				}
+				boolean occupied = enemies.isOccupied(x, y);
+				if (occupied && enemyRunStart < 0) {
+					enemyRunStart = x;
+				} else if (!occupied && enemyRunStart >= 0) {
+					enemyRuns.add(enemyRunStart, y, x - enemyRunStart);
+					enemyRunStart = -1;
+				}
+			}
+			addRun(runType, runStart, lastX, y);
+			if (enemyRunStart >= 0) {
+				enemyRuns.add(enemyRunStart, y, lastX - enemyRunStart);
+			}
 		}
 	}
 
-	private Rectangle createRectangle(int x, int y, int tileWidth, int tileHeight) {
-		return new Rectangle(x * tileWidth, y * tileHeight, tileWidth, tileHeight);
+	private void addRun(TileType tileType, int start, int end, int y) {
+		if (tileType != null && end > start) {
+			tileRuns[tileType.ordinal()].add(start, y, end - start);
+		}
 	}
 
-	private boolean isEnemyAtPosition(Enemy enemy, int x, int y) {
-		return enemy.getX() == x && enemy.getY() == y;
+	private void paintTileRuns(Graphics graphics, int tileWidth, int tileHeight) {
+		for (int i = 0; i < tileRuns.length; i++) {
+			paintRuns(graphics, tileRuns[i], TILE_TYPES[i], tileWidth, tileHeight);
+		}
+	}
+
+	private void paintRuns(Graphics graphics, Cells runs, TileType tileType, int tileWidth, int tileHeight) {
+		if (runs.count == 0) {
+			return;
+		}
+		if (spriteAtlas != null) {
+			for (int i = 0; i < runs.count; i++) {
+				drawCalls += spriteAtlas.drawRun(graphics, tileType, runs.x[i] * tileWidth, runs.y[i] * tileHeight,
+						runs.length[i], tileWidth, tileHeight);
+			}
+			return;
+		}
+		setColor(graphics, TileColorMap.get(tileType));
+		for (int i = 0; i < runs.count; i++) {
+			fillRect(graphics, runs.x[i] * tileWidth, runs.y[i] * tileHeight, runs.length[i] * tileWidth,
+					tileHeight);
+		}
+	}
+
+	private void paintCells(Graphics graphics, Cells cells, TileType tileType, int tileWidth, int tileHeight) {
+		if (cells.count == 0) {
+			return;
+		}
+		setColor(graphics, TileColorMap.get(tileType));
+		for (int i = 0; i < cells.count; i++) {
+			fillCell(graphics, tileType, cells.x[i] * tileWidth, cells.y[i] * tileHeight, tileWidth, tileHeight);
+		}
+	}
+
+	private static TileType fillOf(TileType tileType) {
+		return tileType == TileType.COIN || tileType == TileType.POWER_UP ? TileType.PASSABLE : tileType;
 	}
 
-	protected void paintPowerUp(Graphics graphics, Rectangle rect) {
-		graphics.setColor(Color.BLUE);
-		graphics.fillOval(rect.x, rect.y, rect.width, rect.height);
+	private static TileType terrainOf(TileType tileType) {
+		if (tileType == null) {
+			return null;
+		}
+		return tileType == TileType.NOT_PASSABLE ? TileType.NOT_PASSABLE : TileType.PASSABLE;
 	}
 
-	protected void paintCoin(Graphics graphics, Rectangle rect) {
-		graphics.setColor(Color.YELLOW);
-		graphics.fillOval(rect.x, rect.y, rect.width, rect.height);
+	private void setColor(Graphics graphics, Color color) {
+		if (spriteAtlas != null) {
+			return;
+		}
+		graphics.setColor(color);
+		drawCalls++;
 	}
 
-	void paintEnemy(Graphics graphics, Rectangle rect) {
-		graphics.setColor(Color.RED);
-		graphics.fillRect(rect.x, rect.y, rect.width, rect.height);
+	private void fillRect(Graphics graphics, int x, int y, int width, int height) {
+		graphics.fillRect(x, y, width, height);
+		drawCalls++;
 	}
 
-	private void paintTile(Graphics graphics, Rectangle rect, TileType tileType) {
-		graphics.setColor(TileColorMap.get(tileType));
-		graphics.fillRect(rect.x, rect.y, rect.width, rect.height);
+	private void fillOval(Graphics graphics, int x, int y, int width, int height) {
+		graphics.fillOval(x, y, width, height);
+		drawCalls++;
 	}
 
-	void paintPlayer(Graphics graphics, Point position, Rectangle dimensions, TileType tileType) {
-		paintTile(graphics, new Rectangle(position.x * dimensions.width, position.y * dimensions.height,
-				dimensions.width, dimensions.height), tileType);
+	private void fillCell(Graphics graphics, TileType tileType, int x, int y, int width, int height) {
+		if (spriteAtlas != null) {
+			drawSprite(graphics, tileType, x, y, width, height);
+		} else if (tileType == TileType.COIN || tileType == TileType.POWER_UP) {
+			fillOval(graphics, x, y, width, height);
+		} else {
+			fillRect(graphics, x, y, width, height);
+		}
+	}
+
+	private void drawSprite(Graphics graphics, TileType tileType, int x, int y, int width, int height) {
+		spriteAtlas.draw(graphics, tileType, x, y, width, height);
+		drawCalls++;
+	}
+
+	void paintPlayer(Graphics graphics, int x, int y, int tileWidth, int tileHeight) {
+		paintSingleCell(graphics, TileType.PLAYER, x, y, tileWidth, tileHeight);
+	}
+
+	private void paintSingleCell(Graphics graphics, TileType tileType, int x, int y, int tileWidth, int tileHeight) {
+		setColor(graphics, TileColorMap.get(tileType));
+		fillCell(graphics, tileType, x * tileWidth, y * tileHeight, tileWidth, tileHeight);
+	}
+
+	private static final class Cells {
+
+		private int[] x = new int[16];
+		private int[] y = new int[16];
+		private int[] length = new int[16];
+		private int count;
+
+		void add(int cellX, int cellY, int cellLength) {
+			if (count == x.length) {
+				x = Arrays.copyOf(x, count * 2);
+				y = Arrays.copyOf(y, count * 2);
+				length = Arrays.copyOf(length, count * 2);
+			}
+			x[count] = cellX;
+			y[count] = cellY;
+			length[count] = cellLength;
+			count++;
+		}
+
+		void clear() {
+			count = 0;
+		}
 	}
 }
@@ -4,10 +4,24 @@ public final class TunableParameters {
 	public static final int SCREEN_WIDTH = 900;
 	public static final int SCREEN_HEIGHT = 600;
 	public static final int TARGET_FPS = 45;
+	public static final boolean ADAPTIVE_FRAME_PACING = false;
+	public static final int TICKS_PER_SECOND = 60;
+	public static final int MAX_TICKS_PER_FRAME = 5;
+	public static final int CAMERA_TILE_SIZE = 0;
+	public static final boolean SHOW_PERFORMANCE_HUD = false;
+	public static final boolean RASTER_RENDERING = false;
+	public static final String TICK_PROFILING_PROPERTY = "dungeoncrawler.tickProfiling";
+	public static final String JMX_DOMAIN = "dungeoncrawler";
 	public static final String FILE_LOCATION_PREFIX = "src/main/resources/levels/";
 	public static final String FILE_NAME_SUFFIX = ".txt";
+	public static final String SPRITE_SHEET_LOCATION = "src/main/resources/sprites/tiles.png";
 	public static final long MOVE_DELAY = 500;
 	public static final long POWER_UP_DURATION = 5000;
+	public static final int PARALLEL_ENEMY_UPDATE_THRESHOLD = 4096;
+	public static final int INPUT_QUEUE_CAPACITY = 64;
+	public static final long SESSION_BASE_BYTES = 16384;
+	public static final boolean ACTIVE_RENDERING = false;
+	public static final int RENDER_BUFFERS = 2;
 
 	private TunableParameters() {
 	}
@@ -16,4 +16,4 @@ public class ReaderWrapper {
 		FileReader fileReader = createFileReader(fileName);
 		return new BufferedReader(fileReader);
 	}
-}
\ No newline at end of file
+}
@@ -8,6 +8,10 @@ public class SystemWrapper implements TimeProvider {
 		return System.nanoTime();
 	}
 
+	public String getProperty(String key, String defaultValue) {
+		return System.getProperty(key, defaultValue);
+	}
+
 	@Override
 	public long currentTimeMillis() {
 		return System.currentTimeMillis();
@@ -1,5 +1,9 @@
 package wrappers;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.locks.LockSupport;
+
 import main.DungeonCrawler;
 
 public class ThreadWrapper {
@@ -13,8 +17,34 @@ public class ThreadWrapper {
 		Thread.sleep(millis);
 	}
 
+	public void parkNanos(long nanos) {
+		long deadline = System.nanoTime() + nanos;
+		long remaining = nanos;
+		while (remaining > 0 && !Thread.currentThread().isInterrupted()) {
+			LockSupport.parkNanos(remaining);
+			remaining = deadline - System.nanoTime();
+		}
+	}
+
+	public boolean interrupted() {
+		return Thread.interrupted();
+	}
+
+	public void onSpinWait() {
+		Thread.onSpinWait();
+	}
+
 	public void currentThreadInterrupt() {
 		Thread.currentThread().interrupt();
 	}
 
+	public long currentThreadAllocatedBytes() {
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) threadMXBean)
+					.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return -1;
+	}
+
 }
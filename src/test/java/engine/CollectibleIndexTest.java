@@ -0,0 +1,72 @@
+package engine;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CollectibleIndexTest {
+
+	private CollectibleIndex<Coin> coins;
+
+	@BeforeEach
+	public void setUp() {
+		coins = new CollectibleIndex<>();
+	}
+
+	@Test
+	public void contains_added_item() {
+		coins.add(new Coin(3, 4));
+		assertTrue(coins.contains(3, 4));
+		assertFalse(coins.contains(4, 3));
+		assertThat(coins.size(), equalTo(1));
+	}
+
+	@Test
+	public void contains_outside_index_is_false() {
+		coins.add(new Coin(1, 1));
+		assertFalse(coins.contains(-1, 1));
+		assertFalse(coins.contains(100, 100));
+	}
+
+	@Test
+	public void remove_keeps_remaining_items_indexed() {
+		Coin first = new Coin(0, 0);
+		Coin second = new Coin(5, 2);
+		Coin third = new Coin(9, 7);
+		coins.add(first);
+		coins.add(second);
+		coins.add(third);
+
+		assertTrue(coins.remove(0, 0));
+
+		assertFalse(coins.contains(0, 0));
+		assertTrue(coins.contains(5, 2));
+		assertTrue(coins.contains(9, 7));
+		assertThat(coins.getItems(), containsInAnyOrder(second, third));
+		assertTrue(coins.remove(9, 7));
+		assertTrue(coins.remove(5, 2));
+		assertThat(coins.size(), equalTo(0));
+	}
+
+	@Test
+	public void remove_missing_item_returns_false() {
+		coins.add(new Coin(2, 2));
+		assertFalse(coins.remove(2, 3));
+		assertThat(coins.size(), equalTo(1));
+	}
+
+	@Test
+	public void items_are_read_only() {
+		coins.add(new Coin(2, 2));
+		assertThrows(UnsupportedOperationException.class, () -> coins.getItems().clear());
+	}
+
+	@Test
+	public void negative_position_is_rejected() {
+		assertThrows(IllegalArgumentException.class, () -> coins.add(new Coin(-1, 0)));
+	}
+}
@@ -0,0 +1,205 @@
+package engine;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tiles.Cell;
+import tiles.DirtyCells;
+import tiles.TileGrid;
+import tiles.TileType;
+import values.TunableParameters;
+
+public class EnemiesTest {
+
+	private static final int LEVEL_WIDTH = 10;
+	private static final int LEVEL_HEIGHT = 10;
+	private Enemies enemies;
+	private TileGrid tiles;
+
+	@BeforeEach
+	public void setUp() {
+		enemies = new Enemies();
+		tiles = new TileGrid(LEVEL_WIDTH, LEVEL_HEIGHT);
+		for (int y = 0; y < LEVEL_HEIGHT; y++) {
+			for (int x = 0; x < LEVEL_WIDTH; x++) {
+				tiles.set(x, y, TileType.PASSABLE);
+			}
+		}
+	}
+
+	@Test
+	public void add_enemies_and_read_positions() {
+		enemies.add(1, 2);
+		enemies.add(3, 4);
+		assertThat(enemies.size(), equalTo(2));
+		assertThat(enemies.getX(1), equalTo(3));
+		assertThat(enemies.getY(1), equalTo(4));
+	}
+
+	@Test
+	public void update_moves_every_enemy() {
+		enemies.add(1, 5);
+		enemies.add(2, 5);
+		enemies.add(3, 5);
+		enemies.update(tiles, LEVEL_HEIGHT, LEVEL_WIDTH, TunableParameters.MOVE_DELAY);
+		for (int i = 0; i < enemies.size(); i++) {
+			assertThat(enemies.getY(i), equalTo(4));
+		}
+	}
+
+	@Test
+	public void update_waits_for_move_delay() {
+		enemies.add(1, 5);
+		enemies.update(tiles, LEVEL_HEIGHT, LEVEL_WIDTH, 1000L);
+		enemies.update(tiles, LEVEL_HEIGHT, LEVEL_WIDTH, 1000L + TunableParameters.MOVE_DELAY - 1);
+		assertThat(enemies.getY(0), equalTo(4));
+		enemies.update(tiles, LEVEL_HEIGHT, LEVEL_WIDTH, 1000L + TunableParameters.MOVE_DELAY);
+		assertThat(enemies.getY(0), equalTo(3));
+	}
+
+	@Test
+	public void enemy_turns_and_shifts_right_at_wall() {
+		tiles.set(4, 4, TileType.NOT_PASSABLE);
+		enemies.add(4, 5);
+		enemies.update(tiles, LEVEL_HEIGHT, LEVEL_WIDTH, 1000L);
+		assertThat(enemies.getX(0), equalTo(5));
+		assertThat(enemies.getY(0), equalTo(5));
+		enemies.update(tiles, LEVEL_HEIGHT, LEVEL_WIDTH, 2000L);
+		assertThat(enemies.getY(0), equalTo(6));
+	}
+
+	@Test
+	public void occupancy_follows_enemies() {
+		enemies.add(1, 5);
+		enemies.add(1, 5);
+		assertTrue(enemies.isOccupied(1, 5));
+		enemies.update(tiles, LEVEL_HEIGHT, LEVEL_WIDTH, 1000L);
+		assertFalse(enemies.isOccupied(1, 5));
+		assertTrue(enemies.isOccupied(1, 4));
+		assertFalse(enemies.isOccupied(-1, 4));
+		assertFalse(enemies.isOccupied(100, 100));
+	}
+
+	@Test
+	public void clear_removes_all_enemies() {
+		enemies.add(1, 5);
+		enemies.clear();
+		assertThat(enemies.size(), equalTo(0));
+		assertFalse(enemies.isOccupied(1, 5));
+		assertThrows(IndexOutOfBoundsException.class, () -> enemies.getX(0));
+	}
+
+	@Test
+	public void parallel_update_matches_sequential_update() {
+		int width = 200;
+		int height = 100;
+		int enemyCount = TunableParameters.PARALLEL_ENEMY_UPDATE_THRESHOLD * 4;
+		TileGrid sequentialTiles = new TileGrid(width, height);
+		TileGrid parallelTiles = new TileGrid(width, height);
+		Enemies sequentialEnemies = new Enemies();
+		Enemies parallelEnemies = new Enemies();
+		Random random = new Random(42);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				TileType tileType = random.nextInt(8) == 0 ? TileType.NOT_PASSABLE : TileType.PASSABLE;
+				sequentialTiles.set(x, y, tileType);
+				parallelTiles.set(x, y, tileType);
+			}
+		}
+		for (int i = 0; i < enemyCount; i++) {
+			int x = random.nextInt(width);
+			int y = random.nextInt(height);
+			sequentialTiles.set(x, y, TileType.ENEMY);
+			parallelTiles.set(x, y, TileType.ENEMY);
+			sequentialEnemies.add(x, y);
+			parallelEnemies.add(x, y);
+		}
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for (int tick = 1; tick <= 20; tick++) {
+				long currentTime = tick * TunableParameters.MOVE_DELAY;
+				sequentialEnemies.update(sequentialTiles, height, width, currentTime);
+				parallelEnemies.updateParallel(parallelTiles, height, width, currentTime, pool);
+			}
+		} finally {
+			pool.shutdown();
+		}
+		for (int i = 0; i < enemyCount; i++) {
+			assertThat(parallelEnemies.getX(i), equalTo(sequentialEnemies.getX(i)));
+			assertThat(parallelEnemies.getY(i), equalTo(sequentialEnemies.getY(i)));
+		}
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertThat(parallelTiles.get(x, y), equalTo(sequentialTiles.get(x, y)));
+				assertThat(parallelEnemies.isOccupied(x, y), equalTo(sequentialEnemies.isOccupied(x, y)));
+			}
+		}
+	}
+
+	@Test
+	public void parallel_update_reports_collisions_and_changes_on_the_calling_thread() {
+		int width = 64;
+		int height = 100;
+		TileGrid parallelTiles = new TileGrid(width, height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				parallelTiles.set(x, y, TileType.PASSABLE);
+			}
+		}
+		parallelTiles.set(15, 4, TileType.NOT_PASSABLE);
+		OccupancyGrid occupancy = new OccupancyGrid();
+		DirtyCells changes = new DirtyCells();
+		occupancy.trackChanges(changes);
+		occupancy.add(EntityKind.PLAYER, 20, 9);
+		occupancy.add(EntityKind.COIN, 16, 5);
+		List<String> collisions = new ArrayList<>();
+		Thread caller = Thread.currentThread();
+		occupancy.addCollisionListener((entering, occupying) -> {
+			if (occupancy.getKind(occupying) != EntityKind.ENEMY) {
+				assertThat(Thread.currentThread(), equalTo(caller));
+				collisions.add(occupancy.getKind(occupying) + "@" + occupancy.getX(entering) + ","
+						+ occupancy.getY(entering));
+			}
+		});
+		Enemies parallelEnemies = new Enemies(occupancy);
+		parallelEnemies.add(20, 10);
+		parallelEnemies.add(15, 5);
+		for (int i = 2; i < TunableParameters.PARALLEL_ENEMY_UPDATE_THRESHOLD; i++) {
+			parallelEnemies.add(i % width, 60 + (i / width) % 30);
+		}
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			parallelEnemies.updateParallel(parallelTiles, height, width, TunableParameters.MOVE_DELAY, pool);
+		} finally {
+			pool.shutdown();
+		}
+
+		assertThat(collisions, containsInAnyOrder("PLAYER@20,9", "COIN@16,5"));
+		assertThat(parallelEnemies.getX(1), equalTo(16));
+		assertTrue(parallelEnemies.isOccupied(16, 5));
+		assertFalse(parallelEnemies.isOccupied(15, 5));
+		assertTrue(isMarked(changes, 20, 10));
+		assertTrue(isMarked(changes, 20, 9));
+		assertTrue(isMarked(changes, 15, 5));
+		assertTrue(isMarked(changes, 16, 5));
+	}
+
+	private static boolean isMarked(DirtyCells changes, int x, int y) {
+		for (int i = 0; i < changes.size(); i++) {
+			if (changes.get(i) == Cell.pack(x, y)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -19,9 +19,13 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
 import parser.LevelCreator;
+import tiles.Cell;
+import tiles.DirtyCells;
 import tiles.TileType;
 import timer.PowerUpTimer;
-import ui.GameFrame;
+import timer.TickPhase;
+import timer.TickProfiler;
+import values.TunableParameters;
 import wrappers.SystemWrapper;
 
 public class GameEngineTest {
@@ -47,16 +51,66 @@ public class GameEngineTest {
 	}
 
 	@Test
-	public void run() {
-		GameFrame gameFrame = mock(GameFrame.class);
-		Component component = mock(Component.class);
-		systemWrapper = mock(SystemWrapper.class);
-		powerUpTimer = mock(PowerUpTimer.class);
-		gameEngine = new GameEngine(levelCreator, systemWrapper, powerUpTimer);
-		gameEngine.setPlayer(5, 5);
-		when(gameFrame.getComponents()).thenReturn(new Component[] { component });
-		gameEngine.run(gameFrame);
-		Mockito.verify(component, Mockito.times(1)).repaint();
+	public void tick_notifies_listeners_without_a_frame() {
+		TickListener tickListener = mock(TickListener.class);
+		gameEngine.addTickListener(tickListener);
+		gameEngine.tick(1000L);
+		gameEngine.removeTickListener(tickListener);
+		gameEngine.tick(2000L);
+		Mockito.verify(tickListener, Mockito.times(1)).onTick(gameEngine);
+	}
+
+	@Test
+	public void tick_moves_enemies_using_the_given_time() {
+		gameEngine.addTile(1, 0, TileType.PASSABLE);
+		gameEngine.addTile(1, 1, TileType.PASSABLE);
+		gameEngine.setLevelHorizontalDimension(3);
+		gameEngine.setLevelVerticalDimension(2);
+		gameEngine.setPlayer(2, 0);
+		gameEngine.initializeEnemy(1, 1);
+		gameEngine.tick(TunableParameters.MOVE_DELAY - 1);
+		assertThat(gameEngine.getEnemy().getY(), equalTo(1));
+		gameEngine.tick(TunableParameters.MOVE_DELAY);
+		assertThat(gameEngine.getEnemy().getY(), equalTo(0));
+	}
+
+	@Test
+	public void enemy_entering_player_cell_ends_the_game_during_tick() {
+		gameEngine.addTile(1, 0, TileType.PASSABLE);
+		gameEngine.addTile(1, 1, TileType.PASSABLE);
+		gameEngine.setLevelHorizontalDimension(3);
+		gameEngine.setLevelVerticalDimension(2);
+		gameEngine.setPlayer(1, 0);
+		gameEngine.initializeEnemy(1, 1);
+		assertFalse(gameEngine.isExit());
+		gameEngine.tick(TunableParameters.MOVE_DELAY);
+		assertTrue(gameEngine.isExit());
+	}
+
+	@Test
+	public void player_collects_coin_from_occupancy_even_if_tile_was_overwritten() {
+		gameEngine.addTile(0, 0, TileType.PLAYER);
+		gameEngine.addTile(1, 0, TileType.PASSABLE);
+		gameEngine.addCoin(1, 0);
+		gameEngine.addTile(1, 0, TileType.PASSABLE);
+		gameEngine.playerMoves(1, 0);
+		assertThat(gameEngine.getCollectedCoins(), equalTo(1));
+		assertFalse(gameEngine.isCoinAtPosition(1, 0));
+		assertFalse(gameEngine.getOccupancy().contains(1, 0, EntityKind.COIN));
+	}
+
+	@Test
+	public void player_walking_into_moved_enemy_ends_the_game() {
+		gameEngine.addTile(1, 0, TileType.PASSABLE);
+		gameEngine.addTile(1, 1, TileType.PASSABLE);
+		gameEngine.addTile(2, 0, TileType.PLAYER);
+		gameEngine.setLevelHorizontalDimension(3);
+		gameEngine.setLevelVerticalDimension(2);
+		gameEngine.initializeEnemy(1, 1);
+		gameEngine.tick(TunableParameters.MOVE_DELAY);
+		assertFalse(gameEngine.isExit());
+		gameEngine.playerMoves(-1, 0);
+		assertTrue(gameEngine.isExit());
 	}
 
 	@Test
@@ -112,6 +166,17 @@ public class GameEngineTest {
 		assertThat(actualY, equalTo(ZERO));
 	}
 
+	@Test
+	public void submitted_input_is_applied_at_the_start_of_the_next_tick() {
+		gameEngine.addTile(ZERO, ZERO, TileType.PLAYER);
+		gameEngine.addTile(ONE, ZERO, TileType.PASSABLE);
+		assertTrue(gameEngine.submitInput(InputCommand.RIGHT));
+		assertThat(gameEngine.getPlayerXCoordinate(), equalTo(ZERO));
+		gameEngine.tick(1000L);
+		assertThat(gameEngine.getPlayerXCoordinate(), equalTo(ONE));
+		assertThat(gameEngine.getInputQueue().size(), equalTo(ZERO));
+	}
+
 	@Test
 	public void player_moves_to_not_passable_tile_does_not_update_player_position() {
 		gameEngine.addTile(ZERO, ZERO, TileType.PLAYER);
@@ -123,6 +188,30 @@ public class GameEngineTest {
 		assertThat(actualY, equalTo(ZERO));
 	}
 
+	@Test
+	public void move_player_reports_result() {
+		gameEngine.addTile(ZERO, ZERO, TileType.PLAYER);
+		gameEngine.addTile(ONE, ZERO, TileType.PASSABLE);
+		gameEngine.addTile(2, ZERO, TileType.NOT_PASSABLE);
+		assertThat(gameEngine.movePlayer(ONE, ZERO), equalTo(MoveResult.MOVED));
+		assertThat(gameEngine.movePlayer(ONE, ZERO), equalTo(MoveResult.BLOCKED));
+		assertThat(gameEngine.movePlayer(3, ZERO), equalTo(MoveResult.INVALID));
+		assertThat(gameEngine.getPlayerXCoordinate(), equalTo(ONE));
+	}
+
+	@Test
+	public void move_player_outside_level_is_blocked() {
+		gameEngine.addTile(ZERO, ZERO, TileType.PLAYER);
+		assertThat(gameEngine.movePlayer(-1, ZERO), equalTo(MoveResult.BLOCKED));
+		assertThat(gameEngine.getPlayerXCoordinate(), equalTo(ZERO));
+	}
+
+	@Test
+	public void player_cell_is_packed_player_position() {
+		gameEngine.setPlayer(3, 7);
+		assertThat(gameEngine.getPlayerCell(), equalTo(Cell.pack(3, 7)));
+	}
+
 	@Test
 	public void is_exit_returns_correct_exit_state() {
 		assertThat(gameEngine.isExit(), equalTo(false));
@@ -191,6 +280,57 @@ public class GameEngineTest {
 		assertThat(gameEngine.getCoins().size(), equalTo(2));
 	}
 
+	@Test
+	public void add_random_coins_fills_every_passable_tile_on_mostly_wall_level() {
+		for (int x = 0; x < 50; x++) {
+			for (int y = 0; y < 50; y++) {
+				gameEngine.addTile(x, y, TileType.NOT_PASSABLE);
+			}
+		}
+		gameEngine.addTile(7, 3, TileType.PASSABLE);
+		gameEngine.addTile(42, 19, TileType.PASSABLE);
+		gameEngine.addTile(0, 49, TileType.PASSABLE);
+		gameEngine.setLevelHorizontalDimension(50);
+		gameEngine.setLevelVerticalDimension(50);
+		gameEngine.addRandomCoins(3);
+		assertThat(gameEngine.getCoins().size(), equalTo(3));
+		assertTrue(gameEngine.isCoinAtPosition(7, 3));
+		assertTrue(gameEngine.isCoinAtPosition(42, 19));
+		assertTrue(gameEngine.isCoinAtPosition(0, 49));
+		assertFalse(gameEngine.hasEnoughPassableTiles(1));
+	}
+
+	@Test
+	public void add_random_coins_skips_cells_occupied_by_player_and_enemies() {
+		gameEngine.addTile(0, 0, TileType.PLAYER);
+		gameEngine.addTile(1, 0, TileType.PASSABLE);
+		gameEngine.addTile(1, 0, TileType.ENEMY);
+		gameEngine.addTile(2, 0, TileType.PASSABLE);
+		gameEngine.addTile(2, 0, TileType.ENEMY);
+		gameEngine.addTile(3, 0, TileType.PASSABLE);
+		gameEngine.setLevelHorizontalDimension(4);
+		gameEngine.setLevelVerticalDimension(1);
+
+		gameEngine.addRandomCoins(2);
+
+		assertThat(gameEngine.getCoins().size(), equalTo(1));
+		assertTrue(gameEngine.isCoinAtPosition(3, 0));
+		assertFalse(gameEngine.isCoinAtPosition(0, 0));
+	}
+
+	@Test
+	public void add_random_power_ups_places_nothing_when_only_the_player_cell_is_passable() {
+		gameEngine.addTile(0, 0, TileType.NOT_PASSABLE);
+		gameEngine.addTile(1, 0, TileType.PLAYER);
+		gameEngine.setLevelHorizontalDimension(2);
+		gameEngine.setLevelVerticalDimension(1);
+
+		gameEngine.addRandomPowerUps(1);
+
+		assertThat(gameEngine.getPowerUps().size(), equalTo(0));
+		assertFalse(gameEngine.isPowerUpAtPosition(1, 0));
+	}
+
 	@Test
 	public void add_random_coins_should_not_add_coins_if_not_enough_passable_tiles() {
 		gameEngine.addTile(0, 0, TileType.NOT_PASSABLE);
@@ -342,7 +482,7 @@ public class GameEngineTest {
 		gameEngine = new GameEngine(levelCreator, systemWrapper, powerUpTimer);
 		gameEngine.setPlayer(5, 5);
 		gameEngine.initializeEnemy(1, 1);
-		gameEngine.checkForEnemyPlayerCollision();
+		gameEngine.tick(1000L);
 		assertThat(gameEngine.isExit(), equalTo(false));
 	}
 
@@ -517,18 +657,92 @@ public class GameEngineTest {
 	}
 
 	@Test
-	public void player_moves_to_enemy_and_triggers_exit() {
+	public void enemy_moves_onto_player_and_triggers_exit() {
 		levelCreator = mock(LevelCreator.class);
 		systemWrapper = mock(SystemWrapper.class);
 		powerUpTimer = mock(PowerUpTimer.class);
 		gameEngine = new GameEngine(levelCreator, systemWrapper, powerUpTimer);
 		gameEngine.setLevelHorizontalDimension(10);
 		gameEngine.setLevelVerticalDimension(10);
+		for (int y = 0; y < 10; y++) {
+			for (int x = 0; x < 10; x++) {
+				gameEngine.addTile(x, y, TileType.PASSABLE);
+			}
+		}
 		gameEngine.addTile(5, 5, TileType.PLAYER);
-		gameEngine.addTile(5, 5, TileType.ENEMY);
-		gameEngine.initializeEnemy(5, 5);
-		gameEngine.checkForEnemyPlayerCollision();
+		gameEngine.initializeEnemy(5, 4);
+		gameEngine.addEnemy(5, 6);
+		assertFalse(gameEngine.isExit());
+		gameEngine.tick(TunableParameters.MOVE_DELAY * 10);
+		assertTrue(gameEngine.isExit());
+	}
+
+	@Test
+	public void player_collides_with_any_of_many_enemies() {
+		gameEngine.setPlayer(5, 5);
+		gameEngine.initializeEnemy(1, 1);
+		gameEngine.addEnemy(2, 2);
+		assertFalse(gameEngine.isExit());
+		gameEngine.addEnemy(5, 5);
 		assertTrue(gameEngine.isExit());
 	}
 
+	@Test
+	public void enemy_tile_spawns_enemy() {
+		gameEngine.initializeEnemy(1, 1);
+		gameEngine.addTile(3, 4, TileType.ENEMY);
+		assertThat(gameEngine.getEnemies().size(), equalTo(2));
+		assertTrue(gameEngine.getEnemies().isOccupied(3, 4));
+		assertThat(gameEngine.getTileFromCoordinates(3, 4), equalTo(TileType.ENEMY));
+	}
+
+	@Test
+	public void initialize_enemy_replaces_existing_enemies() {
+		gameEngine.addEnemy(2, 2);
+		gameEngine.initializeEnemy(4, 4);
+		assertThat(gameEngine.getEnemies().size(), equalTo(1));
+		assertThat(gameEngine.getEnemy().getX(), equalTo(4));
+		assertFalse(gameEngine.getEnemies().isOccupied(2, 2));
+	}
+
+	@Test
+	public void tick_profiler_times_each_phase() {
+		TickProfiler tickProfiler = new TickProfiler(systemWrapper);
+		gameEngine.setTickProfiler(tickProfiler);
+		gameEngine.addTile(ZERO, ZERO, TileType.PLAYER);
+		gameEngine.addTile(ONE, ZERO, TileType.PASSABLE);
+		gameEngine.addCoin(ONE, ZERO);
+		gameEngine.submitInput(InputCommand.RIGHT);
+
+		gameEngine.tick(1000L);
+
+		assertThat(tickProfiler.getPhaseStats(TickPhase.INPUT_DRAIN).getCount(), equalTo(1L));
+		assertThat(tickProfiler.getPhaseStats(TickPhase.ENEMY_UPDATE).getCount(), equalTo(1L));
+		assertThat(tickProfiler.getPhaseStats(TickPhase.COLLISION).getCount(), equalTo(1L));
+	}
+
+	@Test
+	public void changes_are_not_tracked_unless_requested() {
+		gameEngine.addTile(ZERO, ZERO, TileType.PASSABLE);
+		gameEngine.tick(1000L);
+		assertFalse(gameEngine.isTrackingChanges());
+		assertThat(gameEngine.drainChangesTo(new DirtyCells()), equalTo(ZERO));
+	}
+
+	@Test
+	public void tracked_changes_are_published_at_the_end_of_a_tick() {
+		gameEngine.trackChanges();
+		gameEngine.addTile(ONE, ZERO, TileType.NOT_PASSABLE);
+		DirtyCells target = new DirtyCells();
+		assertThat(gameEngine.drainChangesTo(target), equalTo(ZERO));
+
+		gameEngine.tick(1000L);
+
+		assertThat(gameEngine.drainChangesTo(target), equalTo(ONE));
+		assertThat(target.get(0), equalTo(Cell.pack(ONE, ZERO)));
+		gameEngine.addTile(ONE, ZERO, TileType.PASSABLE);
+		gameEngine.tick(2000L);
+		gameEngine.clearChanges();
+		assertThat(gameEngine.drainChangesTo(new DirtyCells()), equalTo(ZERO));
+	}
 }
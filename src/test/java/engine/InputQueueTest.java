@@ -0,0 +1,80 @@
+package engine;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class InputQueueTest {
+
+	@Test
+	public void drains_commands_in_order() {
+		InputQueue inputQueue = new InputQueue(4);
+		inputQueue.offer(InputCommand.LEFT);
+		inputQueue.offer(InputCommand.UP);
+		List<InputCommand> drained = new ArrayList<>();
+		assertThat(inputQueue.drain(drained::add), equalTo(2));
+		assertThat(drained, equalTo(List.of(InputCommand.LEFT, InputCommand.UP)));
+		assertThat(inputQueue.size(), equalTo(0));
+	}
+
+	@Test
+	public void rejects_commands_when_full() {
+		InputQueue inputQueue = new InputQueue(2);
+		assertTrue(inputQueue.offer(InputCommand.LEFT));
+		assertTrue(inputQueue.offer(InputCommand.RIGHT));
+		assertFalse(inputQueue.offer(InputCommand.DOWN));
+		assertThat(inputQueue.getDropped(), equalTo(1L));
+		inputQueue.drain(command -> {
+		});
+		assertTrue(inputQueue.offer(InputCommand.DOWN));
+	}
+
+	@Test
+	public void wraps_around_the_buffer() {
+		InputQueue inputQueue = new InputQueue(2);
+		List<InputCommand> drained = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			inputQueue.offer(InputCommand.values()[i % 4]);
+			inputQueue.drain(drained::add);
+		}
+		assertThat(drained.size(), equalTo(5));
+		assertThat(drained.get(4), equalTo(InputCommand.LEFT));
+	}
+
+	@Test
+	public void hands_every_command_from_producer_to_consumer_thread() throws InterruptedException {
+		int commands = 100000;
+		InputQueue inputQueue = new InputQueue(64);
+		Thread producer = new Thread(() -> {
+			for (int i = 0; i < commands; i++) {
+				while (!inputQueue.offer(InputCommand.values()[i % 4])) {
+					Thread.yield();
+				}
+			}
+		});
+		int[] received = new int[1];
+		boolean[] ordered = { true };
+		producer.start();
+		while (received[0] < commands) {
+			inputQueue.drain(command -> {
+				ordered[0] &= command.ordinal() == received[0] % 4;
+				received[0]++;
+			});
+		}
+		producer.join();
+		assertThat(received[0], equalTo(commands));
+		assertTrue(ordered[0]);
+	}
+
+	@Test
+	public void rejects_capacity_that_is_not_a_power_of_two() {
+		assertThrows(IllegalArgumentException.class, () -> new InputQueue(3));
+	}
+}
@@ -0,0 +1,113 @@
+package engine;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OccupancyGridTest {
+
+	private OccupancyGrid occupancy;
+	private List<int[]> collisions;
+
+	@BeforeEach
+	public void setUp() {
+		occupancy = new OccupancyGrid();
+		collisions = new ArrayList<>();
+		occupancy.addCollisionListener((entering, occupying) -> collisions.add(new int[] { entering, occupying }));
+	}
+
+	@Test
+	public void records_occupants_per_cell() {
+		int player = occupancy.add(EntityKind.PLAYER, 2, 3);
+		int coin = occupancy.add(EntityKind.COIN, 5, 5);
+		assertThat(occupancy.find(2, 3, EntityKind.PLAYER), equalTo(player));
+		assertThat(occupancy.find(5, 5, EntityKind.COIN), equalTo(coin));
+		assertFalse(occupancy.contains(2, 3, EntityKind.ENEMY));
+		assertFalse(occupancy.contains(100, 100, EntityKind.PLAYER));
+		assertThat(occupancy.getKind(coin), equalTo(EntityKind.COIN));
+		assertThat(occupancy.size(), equalTo(2));
+	}
+
+	@Test
+	public void entering_an_occupied_cell_raises_one_event_per_occupant() {
+		int firstEnemy = occupancy.add(EntityKind.ENEMY, 1, 1);
+		int secondEnemy = occupancy.add(EntityKind.ENEMY, 1, 1);
+		int player = occupancy.add(EntityKind.PLAYER, 0, 1);
+		collisions.clear();
+
+		occupancy.move(player, 1, 1);
+
+		assertThat(collisions.size(), equalTo(2));
+		assertThat(collisions.get(0)[0], equalTo(player));
+		assertThat(collisions.get(0)[1], equalTo(secondEnemy));
+		assertThat(collisions.get(1)[1], equalTo(firstEnemy));
+	}
+
+	@Test
+	public void moving_into_an_empty_cell_raises_no_event() {
+		int player = occupancy.add(EntityKind.PLAYER, 0, 0);
+		occupancy.add(EntityKind.ENEMY, 3, 3);
+		occupancy.move(player, 1, 0);
+		assertTrue(collisions.isEmpty());
+		assertFalse(occupancy.contains(0, 0, EntityKind.PLAYER));
+		assertTrue(occupancy.contains(1, 0, EntityKind.PLAYER));
+	}
+
+	@Test
+	public void listener_may_remove_the_occupant_it_is_told_about() {
+		int coin = occupancy.add(EntityKind.COIN, 1, 0);
+		int player = occupancy.add(EntityKind.PLAYER, 0, 0);
+		occupancy.addCollisionListener((entering, occupying) -> occupancy.remove(occupying));
+
+		occupancy.move(player, 1, 0);
+
+		assertFalse(occupancy.contains(1, 0, EntityKind.COIN));
+		assertTrue(occupancy.contains(1, 0, EntityKind.PLAYER));
+		assertThrows(IllegalArgumentException.class, () -> occupancy.getKind(coin));
+	}
+
+	@Test
+	public void removed_ids_are_reused() {
+		int first = occupancy.add(EntityKind.ENEMY, 0, 0);
+		occupancy.remove(first);
+		int second = occupancy.add(EntityKind.COIN, 4, 4);
+		assertThat(second, equalTo(first));
+		assertThat(occupancy.getKind(second), equalTo(EntityKind.COIN));
+		assertFalse(occupancy.contains(0, 0, EntityKind.ENEMY));
+	}
+
+	@Test
+	public void removing_from_the_middle_of_a_cell_keeps_other_occupants() {
+		int first = occupancy.add(EntityKind.ENEMY, 2, 2);
+		int middle = occupancy.add(EntityKind.COIN, 2, 2);
+		int last = occupancy.add(EntityKind.PLAYER, 2, 2);
+		occupancy.remove(middle);
+		assertThat(occupancy.find(2, 2, EntityKind.ENEMY), equalTo(first));
+		assertThat(occupancy.find(2, 2, EntityKind.PLAYER), equalTo(last));
+		assertFalse(occupancy.contains(2, 2, EntityKind.COIN));
+	}
+
+	@Test
+	public void entities_keep_their_cells_when_the_grid_grows() {
+		int enemy = occupancy.add(EntityKind.ENEMY, 1, 1);
+		occupancy.add(EntityKind.COIN, 300, 200);
+		assertThat(occupancy.find(1, 1, EntityKind.ENEMY), equalTo(enemy));
+		occupancy.move(enemy, 2, 1);
+		assertTrue(occupancy.contains(2, 1, EntityKind.ENEMY));
+		assertFalse(occupancy.contains(1, 1, EntityKind.ENEMY));
+	}
+
+	@Test
+	public void negative_cells_are_not_tracked() {
+		int enemy = occupancy.add(EntityKind.ENEMY, 8, -3);
+		assertFalse(occupancy.contains(8, -3, EntityKind.ENEMY));
+		occupancy.move(enemy, 8, 0);
+		assertTrue(occupancy.contains(8, 0, EntityKind.ENEMY));
+	}
+}
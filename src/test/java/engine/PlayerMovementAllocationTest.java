@@ -0,0 +1,85 @@
+package engine;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import parser.LevelCreator;
+import tiles.TileType;
+import timer.PowerUpTimer;
+import wrappers.SystemWrapper;
+
+public class PlayerMovementAllocationTest {
+
+	private static final int WARM_UP_MOVES = 20000;
+	private static final int MEASURED_MOVES = 100000;
+	private GameEngine gameEngine;
+	private ThreadMXBean threadMXBean;
+
+	@BeforeEach
+	public void setUp() {
+		threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+		PowerUpTimer powerUpTimer = new PowerUpTimer(() -> 0L);
+		gameEngine = new GameEngine(mock(LevelCreator.class), mock(SystemWrapper.class), powerUpTimer);
+		for (int x = 0; x < 5; x++) {
+			for (int y = 0; y < 5; y++) {
+				gameEngine.addTile(x, y, x == 0 || y == 0 || x == 4 || y == 4 ? TileType.NOT_PASSABLE
+						: TileType.PASSABLE);
+			}
+		}
+		gameEngine.addTile(2, 2, TileType.PLAYER);
+	}
+
+	@Test
+	public void key_moves_do_not_allocate() {
+		walk(WARM_UP_MOVES);
+		long measurementOverhead = measurementOverhead();
+		long before = allocatedBytes();
+		walk(MEASURED_MOVES);
+		long movementAllocatedBytes = allocatedBytes() - before - measurementOverhead;
+		assertThat(movementAllocatedBytes, equalTo(0L));
+	}
+
+	@Test
+	public void player_moves_do_not_allocate() {
+		for (int i = 0; i < WARM_UP_MOVES; i++) {
+			gameEngine.playerMoves(3, 0);
+			gameEngine.playerMoves(0, -1);
+		}
+		long measurementOverhead = measurementOverhead();
+		long before = allocatedBytes();
+		for (int i = 0; i < MEASURED_MOVES; i++) {
+			gameEngine.playerMoves(3, 0);
+			gameEngine.playerMoves(0, -1);
+		}
+		long movementAllocatedBytes = allocatedBytes() - before - measurementOverhead;
+		assertThat(movementAllocatedBytes, equalTo(0L));
+	}
+
+	private long allocatedBytes() {
+		return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private long measurementOverhead() {
+		long before = allocatedBytes();
+		return allocatedBytes() - before;
+	}
+
+	private void walk(int moves) {
+		for (int i = 0; i < moves; i++) {
+			gameEngine.keyLeft();
+			gameEngine.keyUp();
+			gameEngine.keyRight();
+			gameEngine.keyDown();
+		}
+	}
+}
@@ -2,14 +2,19 @@ package main;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
 import engine.GameEngine;
 import org.mockito.MockitoAnnotations;
+import timer.FixedTimestep;
+import timer.FrameScheduler;
 import timer.FramesPerSecondHandler;
+import timer.PerformanceStats;
+import ui.FramePresenter;
 import ui.GameFrame;
+import ui.MeasuredFramePresenter;
 import wrappers.ThreadWrapper;
 
 public class DungeonCrawlerTest {
@@ -25,7 +30,6 @@ public class DungeonCrawlerTest {
 	@Mock
 	private FramesPerSecondHandler framesPerSecondHandler;
 
-	@InjectMocks
 	private DungeonCrawler dungeonCrawler;
 
 	@BeforeEach
@@ -34,6 +38,8 @@ public class DungeonCrawlerTest {
 		Mockito.when(gameEngine.isExit()).thenReturn(false, true);
 		Mockito.when(framesPerSecondHandler.hasEnoughTimeElapsed()).thenReturn(true);
 		Mockito.when(framesPerSecondHandler.calculateSleepDurationInMilliSeconds()).thenReturn(SLEEP_TIME);
+		dungeonCrawler = new DungeonCrawler(threadWrapper, gameEngine, gameFrame,
+				new SleepPacing(framesPerSecondHandler, threadWrapper), new VariableStepSimulation(gameEngine));
 	}
 
 	@Test
@@ -47,7 +53,8 @@ public class DungeonCrawlerTest {
 	public void do_not_run_if_not_enough_time_has_elapsed() {
 		Mockito.when(framesPerSecondHandler.hasEnoughTimeElapsed()).thenReturn(false);
 		dungeonCrawler.run();
-		Mockito.verify(gameEngine, Mockito.never()).run(gameFrame);
+		Mockito.verify(gameEngine, Mockito.never()).tick();
+		Mockito.verify(gameFrame, Mockito.never()).present();
 	}
 
 	@Test
@@ -64,7 +71,102 @@ public class DungeonCrawlerTest {
 		Mockito.when(gameEngine.isExit()).thenReturn(false, false, true);
 		dungeonCrawler.run();
 		Mockito.verify(framesPerSecondHandler).resetLastRunTimer();
-		Mockito.verify(gameEngine).run(gameFrame);
+		Mockito.verify(gameEngine).tick();
+		Mockito.verify(gameFrame).present();
 		Mockito.verify(threadWrapper).sleep(SLEEP_TIME);
 	}
+
+	@Test
+	public void tick_and_present_from_loop_thread_when_active_rendering() {
+		Mockito.when(gameEngine.isExit()).thenReturn(false, false, true);
+		FramePresenter framePresenter = Mockito.mock(FramePresenter.class);
+		DungeonCrawler activeDungeonCrawler = new DungeonCrawler(threadWrapper, gameEngine, gameFrame,
+				new SleepPacing(framesPerSecondHandler, threadWrapper), new VariableStepSimulation(gameEngine),
+				framePresenter);
+		activeDungeonCrawler.run();
+		Mockito.verify(gameEngine).tick();
+		Mockito.verify(framePresenter).present();
+		Mockito.verify(gameFrame, Mockito.never()).present();
+	}
+
+	@Test
+	public void record_tick_and_frame_times_when_stats_are_set() {
+		PerformanceStats performanceStats = Mockito.mock(PerformanceStats.class);
+		DungeonCrawler measuredDungeonCrawler = new DungeonCrawler(threadWrapper, gameEngine, gameFrame,
+				new SleepPacing(framesPerSecondHandler, threadWrapper),
+				new VariableStepSimulation(gameEngine, performanceStats),
+				new MeasuredFramePresenter(gameFrame, performanceStats));
+		measuredDungeonCrawler.run();
+		InOrder inOrder = Mockito.inOrder(performanceStats, gameEngine, gameFrame);
+		inOrder.verify(performanceStats).tickStarted();
+		inOrder.verify(gameEngine).tick();
+		inOrder.verify(performanceStats).tickFinished();
+		inOrder.verify(gameFrame).present();
+		inOrder.verify(performanceStats).frameFinished();
+	}
+
+	@Test
+	public void run_due_fixed_steps_then_render_once() {
+		Mockito.when(gameEngine.isExit()).thenReturn(false, false, false, false, true);
+		FixedTimestep fixedTimestep = Mockito.mock(FixedTimestep.class);
+		Mockito.when(fixedTimestep.stepsDue()).thenReturn(3);
+		Mockito.when(fixedTimestep.nextStepTime()).thenReturn(10L, 20L, 30L);
+		DungeonCrawler fixedStepDungeonCrawler = new DungeonCrawler(threadWrapper, gameEngine, gameFrame,
+				new SleepPacing(framesPerSecondHandler, threadWrapper),
+				new FixedStepSimulation(gameEngine, fixedTimestep));
+		fixedStepDungeonCrawler.run();
+		InOrder inOrder = Mockito.inOrder(gameEngine, gameFrame);
+		inOrder.verify(gameEngine).tick(10L);
+		inOrder.verify(gameEngine).tick(20L);
+		inOrder.verify(gameEngine).tick(30L);
+		inOrder.verify(gameFrame).present();
+		Mockito.verify(gameEngine, Mockito.never()).tick();
+	}
+
+	@Test
+	public void record_each_fixed_step_as_one_tick() {
+		Mockito.when(gameEngine.isExit()).thenReturn(false, false, false, true);
+		PerformanceStats performanceStats = Mockito.mock(PerformanceStats.class);
+		FixedTimestep fixedTimestep = Mockito.mock(FixedTimestep.class);
+		Mockito.when(fixedTimestep.stepsDue()).thenReturn(2);
+		Mockito.when(fixedTimestep.nextStepTime()).thenReturn(10L, 20L);
+		DungeonCrawler measuredDungeonCrawler = new DungeonCrawler(threadWrapper, gameEngine, gameFrame,
+				new SleepPacing(framesPerSecondHandler, threadWrapper),
+				new FixedStepSimulation(gameEngine, fixedTimestep, performanceStats),
+				new MeasuredFramePresenter(gameFrame, performanceStats));
+		measuredDungeonCrawler.run();
+		InOrder inOrder = Mockito.inOrder(performanceStats, gameEngine, gameFrame);
+		inOrder.verify(performanceStats).tickStarted();
+		inOrder.verify(gameEngine).tick(10L);
+		inOrder.verify(performanceStats).tickFinished();
+		inOrder.verify(performanceStats).tickStarted();
+		inOrder.verify(gameEngine).tick(20L);
+		inOrder.verify(performanceStats).tickFinished();
+		inOrder.verify(gameFrame).present();
+		inOrder.verify(performanceStats).frameFinished();
+	}
+
+	@Test
+	public void wait_for_scheduler_instead_of_polling_frame_handler() throws InterruptedException {
+		FrameScheduler frameScheduler = Mockito.mock(FrameScheduler.class);
+		DungeonCrawler scheduledDungeonCrawler = new DungeonCrawler(threadWrapper, gameEngine, gameFrame,
+				new ScheduledPacing(frameScheduler), new VariableStepSimulation(gameEngine));
+		scheduledDungeonCrawler.run();
+		InOrder inOrder = Mockito.inOrder(frameScheduler, gameEngine);
+		inOrder.verify(frameScheduler).awaitNextFrame();
+		inOrder.verify(gameEngine).tick();
+		Mockito.verify(framesPerSecondHandler, Mockito.never()).hasEnoughTimeElapsed();
+		Mockito.verify(threadWrapper, Mockito.never()).sleep(Mockito.anyLong());
+	}
+
+	@Test
+	public void finish_frame_with_adaptive_wait_instead_of_sleep() throws InterruptedException {
+		DungeonCrawler adaptiveDungeonCrawler = new DungeonCrawler(threadWrapper, gameEngine, gameFrame,
+				new AdaptivePacing(framesPerSecondHandler), new VariableStepSimulation(gameEngine));
+		adaptiveDungeonCrawler.run();
+		InOrder inOrder = Mockito.inOrder(framesPerSecondHandler, gameFrame);
+		inOrder.verify(gameFrame).present();
+		inOrder.verify(framesPerSecondHandler).awaitNextFrame();
+		Mockito.verify(threadWrapper, Mockito.never()).sleep(Mockito.anyLong());
+	}
 }
@@ -0,0 +1,75 @@
+package main;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import engine.GameEngine;
+import timer.SimulatedClock;
+
+public class HeadlessSimulationTest {
+
+	@Test
+	public void runs_ticks_on_simulated_time() {
+		GameEngine gameEngine = Mockito.mock(GameEngine.class);
+		SimulatedClock clock = new SimulatedClock(100);
+		HeadlessSimulation simulation = new HeadlessSimulation(gameEngine, clock, 20);
+
+		assertThat(simulation.runTicks(3), equalTo(3L));
+		assertThat(clock.currentTimeMillis(), equalTo(160L));
+		assertThat(simulation.getTicks(), equalTo(3L));
+		Mockito.verify(gameEngine).tick(120L);
+		Mockito.verify(gameEngine).tick(140L);
+		Mockito.verify(gameEngine).tick(160L);
+	}
+
+	@Test
+	public void nanosecond_ticks_do_not_drift() {
+		GameEngine gameEngine = Mockito.mock(GameEngine.class);
+		SimulatedClock clock = new SimulatedClock(0);
+		HeadlessSimulation simulation = new HeadlessSimulation(gameEngine, clock, 1000000000L / 60,
+				TimeUnit.NANOSECONDS);
+
+		simulation.runTicks(600);
+
+		assertThat(clock.nanoTime(), equalTo(600 * (1000000000L / 60)));
+		assertThat(clock.currentTimeMillis(), equalTo(9999L));
+		Mockito.verify(gameEngine).tick(16L);
+		Mockito.verify(gameEngine).tick(33L);
+	}
+
+	@Test
+	public void stops_when_engine_exits() {
+		GameEngine gameEngine = Mockito.mock(GameEngine.class);
+		Mockito.when(gameEngine.isExit()).thenReturn(false, false, true);
+		HeadlessSimulation simulation = new HeadlessSimulation(gameEngine, new SimulatedClock(0), 10);
+
+		assertThat(simulation.runTicks(100), equalTo(2L));
+	}
+
+	@Test
+	public void loads_level_without_a_display() {
+		HeadlessSimulation simulation = HeadlessSimulation.forLevelFiles("src/test/resources/levels/", 10);
+
+		assertThat(simulation.runTicks(1000), equalTo(1000L));
+		assertThat(simulation.getGameEngine().getPlayerXCoordinate(), equalTo(2));
+		assertThat(simulation.getClock().currentTimeMillis(), equalTo(10000L));
+	}
+
+	@Test
+	public void tick_length_must_be_positive() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new HeadlessSimulation(Mockito.mock(GameEngine.class), new SimulatedClock(0), 0));
+	}
+
+	@Test
+	public void simulated_clock_cannot_run_backwards() {
+		assertThrows(IllegalArgumentException.class, () -> new SimulatedClock(0).advance(-1));
+		assertThrows(IllegalArgumentException.class, () -> new SimulatedClock(0).advanceNanos(-1));
+	}
+}
@@ -50,6 +50,22 @@ public class LevelCreatorTest {
 		Mockito.verify(gameEngine).setExit(true);
 	}
 
+	@Test
+	public void measure_level_reads_widest_line_line_count_and_entities() throws Exception {
+		BufferedReader bufferedReader = Mockito.mock(BufferedReader.class);
+		Mockito.when(readerWrapper.createBufferedReader(levelCreator.getFilePath(LEVEL))).thenReturn(bufferedReader);
+		Mockito.when(bufferedReader.readLine()).thenReturn("###").thenReturn("#PE CU#").thenReturn("#E").thenReturn(null);
+
+		LevelSize levelSize = levelCreator.measureLevel(LEVEL);
+
+		assertThat(levelSize.getWidth(), equalTo(7));
+		assertThat(levelSize.getHeight(), equalTo(3));
+		assertThat(levelSize.getEnemies(), equalTo(2));
+		assertThat(levelSize.getCollectibles(), equalTo(2));
+		Mockito.verify(bufferedReader).close();
+		Mockito.verifyNoInteractions(gameEngine);
+	}
+
 	@Test
 	public void get_file_path() {
 		String filePath = FILE_LOCATION_PREFIX + LEVEL + TunableParameters.FILE_NAME_SUFFIX;
@@ -0,0 +1,233 @@
+package server;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import engine.InputCommand;
+import parser.LevelCreator;
+import parser.LevelSize;
+import values.TunableParameters;
+import wrappers.ReaderWrapper;
+
+public class SessionManagerTest {
+
+	private static final int TICKS_PER_SECOND = 50;
+	private static final long TICK_PERIOD_NS = 20000000;
+	private static final long BUDGET = 1 << 20;
+	private ScheduledExecutorService scheduler;
+	private ScheduledFuture<?> tickTask;
+	private LevelCreator levelCreator;
+	private SessionManager sessionManager;
+
+	@BeforeEach
+	public void setUp() {
+		scheduler = Mockito.mock(ScheduledExecutorService.class);
+		tickTask = Mockito.mock(ScheduledFuture.class);
+		Mockito.<ScheduledFuture<?>>when(scheduler.scheduleAtFixedRate(Mockito.any(Runnable.class),
+				Mockito.anyLong(), Mockito.anyLong(), Mockito.any(TimeUnit.class))).thenReturn(tickTask);
+		levelCreator = new LevelCreator("src/test/resources/levels/", new ReaderWrapper());
+		sessionManager = new SessionManager(scheduler, levelCreator, TICKS_PER_SECOND, BUDGET);
+	}
+
+	@Test
+	public void create_session_schedules_its_ticks_and_reserves_memory() {
+		GameSession session = sessionManager.createSession();
+
+		assertNotNull(session);
+		assertThat(sessionManager.getSessionCount(), equalTo(1));
+		assertThat(sessionManager.getReservedBytes(), equalTo(session.getFootprintBytes()));
+		assertThat(session.getFootprintBytes(), greaterThan(0L));
+		Mockito.verify(scheduler).scheduleAtFixedRate(Mockito.any(Runnable.class), Mockito.eq(TICK_PERIOD_NS),
+				Mockito.eq(TICK_PERIOD_NS), Mockito.eq(TimeUnit.NANOSECONDS));
+	}
+
+	@Test
+	public void sessions_beyond_the_memory_budget_are_rejected() {
+		long footprint = sessionManager.createSession().getFootprintBytes();
+		sessionManager = new SessionManager(scheduler, levelCreator, TICKS_PER_SECOND, footprint * 2);
+
+		assertNotNull(sessionManager.createSession());
+		assertNotNull(sessionManager.createSession());
+		assertNull(sessionManager.createSession());
+		assertThat(sessionManager.getSessionCount(), equalTo(2));
+		assertThat(sessionManager.getRejectedSessions(), equalTo(1L));
+	}
+
+	@Test
+	public void footprint_is_reserved_before_the_level_is_built() {
+		LevelCreator measuredLevel = Mockito.spy(levelCreator);
+		long[] reservedDuringBuild = new long[1];
+		Mockito.doAnswer(invocation -> {
+			reservedDuringBuild[0] = sessionManager.getReservedBytes();
+			return invocation.callRealMethod();
+		}).when(measuredLevel).createLevel(Mockito.any(), Mockito.anyInt());
+		sessionManager = new SessionManager(scheduler, measuredLevel, TICKS_PER_SECOND, BUDGET);
+
+		GameSession session = sessionManager.createSession();
+
+		assertThat(reservedDuringBuild[0], equalTo(session.getFootprintBytes()));
+	}
+
+	@Test
+	public void oversized_level_is_rejected_without_being_built() {
+		LevelCreator measuredLevel = Mockito.spy(levelCreator);
+		sessionManager = new SessionManager(scheduler, measuredLevel, TICKS_PER_SECOND,
+				TunableParameters.SESSION_BASE_BYTES);
+
+		assertNull(sessionManager.createSession());
+		assertThat(sessionManager.getRejectedSessions(), equalTo(1L));
+		Mockito.verify(measuredLevel, Mockito.never()).createLevel(Mockito.any(), Mockito.anyInt());
+	}
+
+	@Test
+	public void failed_build_releases_the_reservation() {
+		LevelCreator brokenLevel = Mockito.spy(levelCreator);
+		Mockito.doThrow(new IllegalStateException("broken level")).when(brokenLevel).createLevel(Mockito.any(),
+				Mockito.anyInt());
+		sessionManager = new SessionManager(scheduler, brokenLevel, TICKS_PER_SECOND, BUDGET);
+
+		assertThrows(IllegalStateException.class, () -> sessionManager.createSession());
+		assertThat(sessionManager.getReservedBytes(), equalTo(0L));
+		assertThat(sessionManager.getSessionCount(), equalTo(0));
+	}
+
+	@Test
+	public void missing_level_is_rejected() {
+		sessionManager = new SessionManager(scheduler, new LevelCreator("missing/", new ReaderWrapper()),
+				TICKS_PER_SECOND, BUDGET);
+
+		assertNull(sessionManager.createSession());
+		assertThat(sessionManager.getRejectedSessions(), equalTo(1L));
+		assertThat(sessionManager.getReservedBytes(), equalTo(0L));
+	}
+
+	@Test
+	public void footprint_covers_grid_capacity_grown_by_doubling() {
+		assertThat(GameSession.estimateFootprintBytes(new LevelSize(5, 3, 0, 0)),
+				equalTo(TunableParameters.SESSION_BASE_BYTES + 8 * 4 * GameSession.BYTES_PER_CELL));
+		assertThat(GameSession.estimateFootprintBytes(new LevelSize(8, 1, 0, 0)),
+				equalTo(TunableParameters.SESSION_BASE_BYTES + 8 * GameSession.BYTES_PER_CELL));
+	}
+
+	@Test
+	public void footprint_charges_each_enemy_and_collectible() {
+		long emptyLevel = GameSession.estimateFootprintBytes(new LevelSize(8, 8, 0, 0));
+
+		assertThat(GameSession.estimateFootprintBytes(new LevelSize(8, 8, 3, 5)), equalTo(
+				emptyLevel + 3 * GameSession.BYTES_PER_ENEMY + 5 * GameSession.BYTES_PER_COLLECTIBLE));
+	}
+
+	@Test
+	public void level_is_measured_once_for_all_sessions() throws Exception {
+		LevelCreator measuredLevel = Mockito.spy(levelCreator);
+		sessionManager = new SessionManager(scheduler, measuredLevel, TICKS_PER_SECOND, BUDGET);
+
+		sessionManager.createSession();
+		sessionManager.createSession();
+
+		Mockito.verify(measuredLevel).measureLevel(Mockito.anyInt());
+	}
+
+	@Test
+	public void session_destroyed_before_its_task_is_set_cancels_the_task() {
+		Mockito.<ScheduledFuture<?>>when(scheduler.scheduleAtFixedRate(Mockito.any(Runnable.class),
+				Mockito.anyLong(), Mockito.anyLong(), Mockito.any(TimeUnit.class))).thenAnswer(invocation -> {
+					assertTrue(sessionManager.destroySession(1));
+					return tickTask;
+				});
+
+		sessionManager.createSession();
+
+		assertThat(sessionManager.getSessionCount(), equalTo(0));
+		Mockito.verify(tickTask).cancel(false);
+	}
+
+	@Test
+	public void destroy_session_cancels_ticks_and_releases_memory() {
+		GameSession session = sessionManager.createSession();
+
+		assertTrue(sessionManager.destroySession(session.getId()));
+		assertFalse(sessionManager.destroySession(session.getId()));
+		assertNull(sessionManager.getSession(session.getId()));
+		assertThat(sessionManager.getReservedBytes(), equalTo(0L));
+		Mockito.verify(tickTask).cancel(false);
+	}
+
+	@Test
+	public void scheduled_tick_advances_the_session_and_removes_it_when_finished() {
+		GameSession session = sessionManager.createSession();
+		ArgumentCaptor<Runnable> tick = ArgumentCaptor.forClass(Runnable.class);
+		Mockito.verify(scheduler).scheduleAtFixedRate(tick.capture(), Mockito.anyLong(), Mockito.anyLong(),
+				Mockito.any(TimeUnit.class));
+
+		tick.getValue().run();
+		assertThat(session.getTicks(), equalTo(1L));
+		assertThat(sessionManager.getSessionCount(), equalTo(1));
+
+		session.getGameEngine().setExit(true);
+		tick.getValue().run();
+		assertThat(sessionManager.getSessionCount(), equalTo(0));
+		Mockito.verify(tickTask).cancel(false);
+	}
+
+	@Test
+	public void input_reaches_the_session_engine() {
+		GameSession session = sessionManager.createSession();
+
+		assertTrue(session.submitInput(InputCommand.LEFT));
+		assertThat(session.getGameEngine().getInputQueue().size(), equalTo(1));
+	}
+
+	@Test
+	public void close_destroys_every_session_and_stops_the_scheduler() {
+		sessionManager.createSession();
+		sessionManager.createSession();
+
+		sessionManager.close();
+
+		assertThat(sessionManager.getSessionCount(), equalTo(0));
+		assertThat(sessionManager.getReservedBytes(), equalTo(0L));
+		Mockito.verify(scheduler).shutdown();
+	}
+
+	@Test
+	public void rejects_invalid_configuration() {
+		assertThrows(IllegalArgumentException.class, () -> new SessionManager(scheduler, levelCreator, 0, BUDGET));
+		assertThrows(IllegalArgumentException.class,
+				() -> new SessionManager(scheduler, levelCreator, TICKS_PER_SECOND, 0));
+		assertThrows(IllegalArgumentException.class,
+				() -> SessionManager.withSharedScheduler(0, levelCreator, TICKS_PER_SECOND, BUDGET));
+	}
+
+	@Test
+	public void shared_scheduler_ticks_many_sessions() throws InterruptedException {
+		try (SessionManager shared = SessionManager.withSharedScheduler(2, levelCreator, 1000, BUDGET * 16)) {
+			GameSession[] sessions = new GameSession[32];
+			for (int i = 0; i < sessions.length; i++) {
+				sessions[i] = shared.createSession();
+			}
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			for (GameSession session : sessions) {
+				while (session.getTicks() == 0 && !session.isFinished() && System.nanoTime() < deadline) {
+					Thread.sleep(1);
+				}
+				assertTrue(session.getTicks() > 0 || session.isFinished());
+			}
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package tiles;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import org.junit.jupiter.api.Test;
+
+public class CellTest {
+
+	@Test
+	public void pack_and_unpack() {
+		long cell = Cell.pack(12, 34);
+		assertThat(Cell.x(cell), equalTo(12));
+		assertThat(Cell.y(cell), equalTo(34));
+	}
+
+	@Test
+	public void pack_and_unpack_negative_coordinates() {
+		long cell = Cell.pack(-1, -7);
+		assertThat(Cell.x(cell), equalTo(-1));
+		assertThat(Cell.y(cell), equalTo(-7));
+	}
+
+	@Test
+	public void pack_and_unpack_extreme_coordinates() {
+		long cell = Cell.pack(Integer.MAX_VALUE, Integer.MIN_VALUE);
+		assertThat(Cell.x(cell), equalTo(Integer.MAX_VALUE));
+		assertThat(Cell.y(cell), equalTo(Integer.MIN_VALUE));
+	}
+}
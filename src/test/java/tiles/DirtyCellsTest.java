@@ -0,0 +1,58 @@
+package tiles;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import org.junit.jupiter.api.Test;
+
+public class DirtyCellsTest {
+
+	@Test
+	public void marks_each_cell_once() {
+		DirtyCells dirtyCells = new DirtyCells();
+		dirtyCells.mark(2, 3);
+		dirtyCells.mark(2, 3);
+		dirtyCells.mark(40, 1);
+		dirtyCells.mark(-1, 1);
+		assertThat(dirtyCells.size(), equalTo(2));
+		assertThat(dirtyCells.get(0), equalTo(Cell.pack(2, 3)));
+		assertThat(dirtyCells.get(1), equalTo(Cell.pack(40, 1)));
+	}
+
+	@Test
+	public void drain_moves_new_cells_and_resets_source() {
+		DirtyCells source = new DirtyCells();
+		DirtyCells target = new DirtyCells();
+		target.mark(1, 1);
+		source.mark(1, 1);
+		source.mark(2, 2);
+
+		assertThat(source.drainTo(target), equalTo(1));
+		assertThat(source.size(), equalTo(0));
+		assertThat(target.size(), equalTo(2));
+
+		source.mark(1, 1);
+		assertThat(source.size(), equalTo(1));
+	}
+
+	@Test
+	public void clear_allows_cells_to_be_marked_again() {
+		DirtyCells dirtyCells = new DirtyCells();
+		dirtyCells.mark(0, 0);
+		dirtyCells.clear();
+		dirtyCells.mark(0, 0);
+		assertThat(dirtyCells.size(), equalTo(1));
+	}
+
+	@Test
+	public void tile_grid_reports_only_real_changes() {
+		DirtyCells dirtyCells = new DirtyCells();
+		TileGrid tiles = new TileGrid(4, 4);
+		tiles.set(1, 1, TileType.PASSABLE);
+		tiles.trackChanges(dirtyCells);
+		tiles.set(1, 1, TileType.PASSABLE);
+		tiles.set(2, 1, TileType.COIN);
+		assertThat(dirtyCells.size(), equalTo(1));
+		assertThat(dirtyCells.get(0), equalTo(Cell.pack(2, 1)));
+	}
+}
@@ -0,0 +1,144 @@
+package tiles;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TileGridTest {
+
+	@Test
+	public void set_and_get_tile() {
+		TileGrid tiles = new TileGrid(3, 2);
+		tiles.set(2, 1, TileType.COIN);
+		assertThat(tiles.get(2, 1), equalTo(TileType.COIN));
+	}
+
+	@Test
+	public void unset_tile_is_null() {
+		TileGrid tiles = new TileGrid(3, 2);
+		assertThat(tiles.get(0, 0), nullValue());
+	}
+
+	@Test
+	public void out_of_bounds_tile_returns_default() {
+		TileGrid tiles = new TileGrid(3, 2);
+		assertThat(tiles.get(-1, 0), nullValue());
+		assertThat(tiles.get(3, 0), nullValue());
+		assertThat(tiles.getOrDefault(0, 2, TileType.NOT_PASSABLE), equalTo(TileType.NOT_PASSABLE));
+	}
+
+	@Test
+	public void grid_grows_and_keeps_existing_tiles() {
+		TileGrid tiles = new TileGrid();
+		tiles.set(0, 0, TileType.NOT_PASSABLE);
+		tiles.set(1, 0, TileType.PASSABLE);
+		tiles.set(0, 1, TileType.ENEMY);
+		tiles.set(40, 30, TileType.POWER_UP);
+		assertThat(tiles.getWidth(), equalTo(41));
+		assertThat(tiles.getHeight(), equalTo(31));
+		assertThat(tiles.get(0, 0), equalTo(TileType.NOT_PASSABLE));
+		assertThat(tiles.get(1, 0), equalTo(TileType.PASSABLE));
+		assertThat(tiles.get(0, 1), equalTo(TileType.ENEMY));
+		assertThat(tiles.get(40, 30), equalTo(TileType.POWER_UP));
+		assertThat(tiles.get(39, 30), nullValue());
+	}
+
+	@Test
+	public void negative_coordinates_are_ignored() {
+		TileGrid tiles = new TileGrid();
+		tiles.set(-1, 5, TileType.ENEMY);
+		assertThat(tiles.getWidth(), equalTo(0));
+		assertThat(tiles.getHeight(), equalTo(0));
+	}
+
+	@Test
+	public void is_within_bounds() {
+		TileGrid tiles = new TileGrid(2, 2);
+		assertTrue(tiles.isWithinBounds(1, 1));
+		assertFalse(tiles.isWithinBounds(2, 1));
+		assertFalse(tiles.isWithinBounds(1, -1));
+	}
+
+	@Test
+	public void negative_dimensions_are_rejected() {
+		assertThrows(IllegalArgumentException.class, () -> new TileGrid(-1, 2));
+	}
+
+	@Test
+	public void passable_cells_are_tracked() {
+		TileGrid tiles = new TileGrid();
+		tiles.set(0, 0, TileType.PASSABLE);
+		tiles.set(1, 0, TileType.NOT_PASSABLE);
+		tiles.set(0, 1, TileType.PASSABLE);
+		tiles.set(0, 1, TileType.PASSABLE);
+		assertThat(tiles.getPassableCount(), equalTo(2));
+
+		tiles.set(0, 0, TileType.COIN);
+
+		assertThat(tiles.getPassableCount(), equalTo(1));
+		assertThat(tiles.randomPassableCell(new Random(), (x, y) -> true), equalTo(Cell.pack(0, 1)));
+	}
+
+	@Test
+	public void passable_cells_survive_grid_growth() {
+		TileGrid tiles = new TileGrid();
+		tiles.set(1, 1, TileType.PASSABLE);
+		tiles.set(2, 1, TileType.PASSABLE);
+		tiles.set(50, 50, TileType.NOT_PASSABLE);
+		tiles.set(1, 1, TileType.ENEMY);
+		assertThat(tiles.getPassableCount(), equalTo(1));
+		assertThat(tiles.randomPassableCell(new Random(), (x, y) -> true), equalTo(Cell.pack(2, 1)));
+	}
+
+	@Test
+	public void cell_that_becomes_passable_again_is_sampled_once() {
+		TileGrid tiles = new TileGrid(4, 1);
+		tiles.set(3, 0, TileType.PASSABLE);
+		tiles.set(3, 0, TileType.COIN);
+		tiles.set(3, 0, TileType.PASSABLE);
+		List<Long> accepted = new ArrayList<>();
+
+		long cell = tiles.randomPassableCell(new Random(), (x, y) -> {
+			accepted.add(Cell.pack(x, y));
+			return false;
+		});
+
+		assertThat(cell, equalTo(TileGrid.NO_CELL));
+		assertThat(accepted, contains(Cell.pack(3, 0)));
+	}
+
+	@Test
+	public void rejected_passable_cells_are_not_returned() {
+		TileGrid tiles = new TileGrid(3, 1);
+		tiles.set(0, 0, TileType.PASSABLE);
+		tiles.set(1, 0, TileType.PASSABLE);
+		tiles.set(2, 0, TileType.PASSABLE);
+
+		for (int attempt = 0; attempt < 20; attempt++) {
+			long cell = tiles.randomPassableCell(new Random(attempt), (x, y) -> x == 1);
+			assertThat(cell, equalTo(Cell.pack(1, 0)));
+		}
+		assertThat(tiles.randomPassableCell(new Random(), (x, y) -> false), equalTo(TileGrid.NO_CELL));
+		assertThat(tiles.getPassableCount(), equalTo(3));
+	}
+
+	@Test
+	public void terrain_version_changes_only_for_walls_and_floor() {
+		TileGrid tiles = new TileGrid(2, 1);
+		tiles.set(0, 0, TileType.PASSABLE);
+		int version = tiles.getTerrainVersion();
+		tiles.set(0, 0, TileType.COIN);
+		tiles.set(0, 0, TileType.PASSABLE);
+		assertThat(tiles.getTerrainVersion(), equalTo(version));
+		tiles.set(0, 0, TileType.NOT_PASSABLE);
+		assertThat(tiles.getTerrainVersion(), equalTo(version + 1));
+	}
+}
@@ -0,0 +1,67 @@
+package timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import wrappers.SystemWrapper;
+
+public class FixedTimestepTest {
+
+	private static final long STEP_NS = 10000000;
+	private static final long START_MILLIS = 5000;
+	private SystemWrapper systemWrapper;
+	private FixedTimestep fixedTimestep;
+
+	@BeforeEach
+	public void setUp() {
+		systemWrapper = Mockito.mock(SystemWrapper.class);
+		Mockito.when(systemWrapper.currentTimeMillis()).thenReturn(START_MILLIS);
+		fixedTimestep = new FixedTimestep(100, 4, systemWrapper);
+	}
+
+	@Test
+	public void first_call_only_starts_the_clock() {
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(0L);
+		assertEquals(0, fixedTimestep.stepsDue());
+	}
+
+	@Test
+	public void runs_one_step_per_elapsed_step_length() {
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(0L, 3 * STEP_NS + STEP_NS / 2);
+		fixedTimestep.stepsDue();
+		assertEquals(3, fixedTimestep.stepsDue());
+	}
+
+	@Test
+	public void carries_partial_steps_into_next_frame() {
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(0L, STEP_NS / 2, STEP_NS);
+		fixedTimestep.stepsDue();
+		assertEquals(0, fixedTimestep.stepsDue());
+		assertEquals(1, fixedTimestep.stepsDue());
+	}
+
+	@Test
+	public void limits_catch_up_after_a_long_stall() {
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(0L, 100 * STEP_NS);
+		fixedTimestep.stepsDue();
+		assertEquals(4, fixedTimestep.stepsDue());
+	}
+
+	@Test
+	public void step_times_advance_by_the_fixed_step_from_start() {
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(0L);
+		fixedTimestep.stepsDue();
+		assertEquals(START_MILLIS + 10, fixedTimestep.nextStepTime());
+		assertEquals(START_MILLIS + 20, fixedTimestep.nextStepTime());
+		assertEquals(2, fixedTimestep.getSteps());
+	}
+
+	@Test
+	public void rejects_non_positive_tick_rate() {
+		assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(0, 4, systemWrapper));
+	}
+}
@@ -0,0 +1,84 @@
+package timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import wrappers.SystemWrapper;
+import wrappers.ThreadWrapper;
+
+public class FrameSchedulerTest {
+
+	private static final long PERIOD_NS = 20000000;
+	private SystemWrapper systemWrapper;
+	private ThreadWrapper threadWrapper;
+	private FrameScheduler frameScheduler;
+
+	@BeforeEach
+	public void setUp() {
+		systemWrapper = Mockito.mock(SystemWrapper.class);
+		threadWrapper = Mockito.mock(ThreadWrapper.class);
+		frameScheduler = new FrameScheduler(50, systemWrapper, threadWrapper);
+	}
+
+	@Test
+	public void first_frame_starts_immediately() throws InterruptedException {
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(1000L);
+		frameScheduler.awaitNextFrame();
+		Mockito.verify(threadWrapper, Mockito.never()).parkNanos(Mockito.anyLong());
+	}
+
+	@Test
+	public void parks_until_the_next_frame_boundary() throws InterruptedException {
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(0L, 5000000L, PERIOD_NS);
+		frameScheduler.awaitNextFrame();
+		frameScheduler.awaitNextFrame();
+		Mockito.verify(threadWrapper).parkNanos(PERIOD_NS - 5000000L);
+		Mockito.verify(threadWrapper, Mockito.times(1)).parkNanos(Mockito.anyLong());
+	}
+
+	@Test
+	public void parks_again_after_an_early_wake_up() throws InterruptedException {
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(0L, 0L, PERIOD_NS - 100, PERIOD_NS);
+		frameScheduler.awaitNextFrame();
+		frameScheduler.awaitNextFrame();
+		Mockito.verify(threadWrapper).parkNanos(PERIOD_NS);
+		Mockito.verify(threadWrapper).parkNanos(100L);
+	}
+
+	@Test
+	public void keeps_deadlines_on_the_frame_grid_after_a_slow_frame() throws InterruptedException {
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(0L, PERIOD_NS + 5000000L, PERIOD_NS + 6000000L,
+				2 * PERIOD_NS);
+		frameScheduler.awaitNextFrame();
+		frameScheduler.awaitNextFrame();
+		frameScheduler.awaitNextFrame();
+		Mockito.verify(threadWrapper).parkNanos(2 * PERIOD_NS - (PERIOD_NS + 6000000L));
+	}
+
+	@Test
+	public void skips_missed_frames_instead_of_bursting() throws InterruptedException {
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(0L, 5 * PERIOD_NS, 5 * PERIOD_NS + 1, 6 * PERIOD_NS);
+		frameScheduler.awaitNextFrame();
+		frameScheduler.awaitNextFrame();
+		assertEquals(4, frameScheduler.getMissedFrames());
+		frameScheduler.awaitNextFrame();
+		Mockito.verify(threadWrapper).parkNanos(PERIOD_NS - 1);
+	}
+
+	@Test
+	public void throws_when_interrupted_while_parked() throws InterruptedException {
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(0L, 0L);
+		Mockito.when(threadWrapper.interrupted()).thenReturn(true);
+		frameScheduler.awaitNextFrame();
+		assertThrows(InterruptedException.class, () -> frameScheduler.awaitNextFrame());
+	}
+
+	@Test
+	public void rejects_non_positive_frame_rate() {
+		assertThrows(IllegalArgumentException.class, () -> new FrameScheduler(0, systemWrapper, threadWrapper));
+	}
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import wrappers.SystemWrapper;
+import wrappers.ThreadWrapper;
 
 public class FramesPerSecondHandlerTest {
 
@@ -71,4 +72,69 @@ public class FramesPerSecondHandlerTest {
 
 	}
 
+	@Test
+	public void legacy_handler_does_not_pace_adaptively() {
+		assertFalse(framesPerSecondHandler.isAdaptivePacing());
+	}
+
+	@Test
+	public void adaptive_pacing_sleeps_until_the_margin_then_spins_to_the_deadline() throws InterruptedException {
+		ThreadWrapper threadWrapper = Mockito.mock(ThreadWrapper.class);
+		FramesPerSecondHandler adaptive = new FramesPerSecondHandler(DESIRED_FRAMES_PER_SECOND, systemWrapper,
+				threadWrapper);
+		long requested = FRAME_PERIOD_NS - 3000000;
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(FRAME_PERIOD_NS, FRAME_PERIOD_NS + 1000000,
+				2 * FRAME_PERIOD_NS - 1500000, 2 * FRAME_PERIOD_NS - 1, 2 * FRAME_PERIOD_NS);
+		adaptive.hasEnoughTimeElapsed();
+		adaptive.resetLastRunTimer();
+
+		adaptive.awaitNextFrame();
+
+		assertTrue(adaptive.isAdaptivePacing());
+		Mockito.verify(threadWrapper).parkNanos(requested);
+		Mockito.verify(threadWrapper, Mockito.times(2)).onSpinWait();
+		assertEquals(2000000 - (1500000 >> 4), adaptive.getSleepMarginNanoseconds());
+	}
+
+	@Test
+	public void adaptive_pacing_widens_the_margin_after_an_oversleep() throws InterruptedException {
+		ThreadWrapper threadWrapper = Mockito.mock(ThreadWrapper.class);
+		FramesPerSecondHandler adaptive = new FramesPerSecondHandler(DESIRED_FRAMES_PER_SECOND, systemWrapper,
+				threadWrapper);
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(FRAME_PERIOD_NS, FRAME_PERIOD_NS,
+				2 * FRAME_PERIOD_NS + 2000000);
+		adaptive.hasEnoughTimeElapsed();
+		adaptive.resetLastRunTimer();
+
+		adaptive.awaitNextFrame();
+
+		Mockito.verify(threadWrapper, Mockito.never()).onSpinWait();
+		assertEquals(5000000, adaptive.getSleepMarginNanoseconds());
+	}
+
+	@Test
+	public void records_the_pacing_error_of_each_frame_interval() {
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(FRAME_PERIOD_NS, 2 * FRAME_PERIOD_NS + 1000);
+		framesPerSecondHandler.hasEnoughTimeElapsed();
+		framesPerSecondHandler.resetLastRunTimer();
+		framesPerSecondHandler.hasEnoughTimeElapsed();
+		framesPerSecondHandler.resetLastRunTimer();
+
+		assertEquals(1, framesPerSecondHandler.getPacingErrors().getCount());
+		assertEquals(1000, framesPerSecondHandler.getPacingErrors().getMax());
+	}
+
+	@Test
+	public void adaptive_pacing_throws_when_interrupted_while_parked() {
+		ThreadWrapper threadWrapper = Mockito.mock(ThreadWrapper.class);
+		FramesPerSecondHandler adaptive = new FramesPerSecondHandler(DESIRED_FRAMES_PER_SECOND, systemWrapper,
+				threadWrapper);
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(FRAME_PERIOD_NS);
+		Mockito.when(threadWrapper.interrupted()).thenReturn(true);
+		adaptive.hasEnoughTimeElapsed();
+		adaptive.resetLastRunTimer();
+
+		assertThrows(InterruptedException.class, () -> adaptive.awaitNextFrame());
+	}
+
 }
@@ -0,0 +1,81 @@
+package timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+	private LatencyHistogram latencyHistogram;
+
+	@BeforeEach
+	public void setUp() {
+		latencyHistogram = new LatencyHistogram();
+	}
+
+	@Test
+	public void empty_histogram_reports_zero() {
+		assertEquals(0, latencyHistogram.getCount());
+		assertEquals(0, latencyHistogram.getPercentile(99));
+	}
+
+	@Test
+	public void small_values_are_exact() {
+		for (int i = 1; i <= 10; i++) {
+			latencyHistogram.record(i);
+		}
+		assertEquals(5, latencyHistogram.getPercentile(50));
+		assertEquals(10, latencyHistogram.getPercentile(100));
+	}
+
+	@Test
+	public void percentiles_stay_within_the_bucket_resolution() {
+		for (int i = 1; i <= 100000; i++) {
+			latencyHistogram.record(i * 1000L);
+		}
+		assertEquals(100000, latencyHistogram.getCount());
+		assertEquals(100000000L, latencyHistogram.getMax());
+		assertWithin(50000000L, latencyHistogram.getPercentile(50));
+		assertWithin(99000000L, latencyHistogram.getPercentile(99));
+		assertWithin(99900000L, latencyHistogram.getPercentile(99.9));
+	}
+
+	@Test
+	public void bucket_bounds_contain_their_values() {
+		for (long value = 0; value < 1 << 20; value += 7) {
+			int index = LatencyHistogram.indexOf(value);
+			assertTrue(LatencyHistogram.highestValueIn(index) >= value);
+			assertTrue(index == 0 || LatencyHistogram.highestValueIn(index - 1) < value);
+		}
+		assertTrue(LatencyHistogram.highestValueIn(LatencyHistogram.indexOf(Long.MAX_VALUE)) == Long.MAX_VALUE);
+	}
+
+	@Test
+	public void negative_values_count_as_zero() {
+		latencyHistogram.record(-5);
+		assertEquals(0, latencyHistogram.getMax());
+		assertEquals(1, latencyHistogram.getCount());
+	}
+
+	@Test
+	public void reset_clears_all_samples() {
+		latencyHistogram.record(1000);
+		latencyHistogram.reset();
+		assertEquals(0, latencyHistogram.getCount());
+		assertEquals(0, latencyHistogram.getMax());
+		assertEquals(0, latencyHistogram.getPercentile(50));
+	}
+
+	@Test
+	public void rejects_percentiles_outside_the_range() {
+		assertThrows(IllegalArgumentException.class, () -> latencyHistogram.getPercentile(101));
+		assertThrows(IllegalArgumentException.class, () -> latencyHistogram.getPercentile(-1));
+	}
+
+	private static void assertWithin(long expected, long actual) {
+		assertTrue(Math.abs(actual - expected) <= expected / 16, "expected about " + expected + " but was " + actual);
+	}
+}
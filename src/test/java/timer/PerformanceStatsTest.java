@@ -0,0 +1,59 @@
+package timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import wrappers.ThreadWrapper;
+
+public class PerformanceStatsTest {
+
+	private static final long FRAME_MILLIS = 20;
+	private SimulatedClock clock;
+	private ThreadWrapper threadWrapper;
+	private PerformanceStats performanceStats;
+
+	@BeforeEach
+	public void setUp() {
+		clock = new SimulatedClock(0);
+		threadWrapper = Mockito.mock(ThreadWrapper.class);
+		performanceStats = new PerformanceStats(clock, threadWrapper);
+	}
+
+	@Test
+	public void publishes_readouts_once_per_second() {
+		Mockito.when(threadWrapper.currentThreadAllocatedBytes()).thenReturn(0L, 2048L * 1024);
+		runFrames(49);
+		assertEquals(0, performanceStats.getFramesPerSecond());
+		runFrames(1);
+		assertEquals(50, performanceStats.getFramesPerSecond());
+		assertEquals(2000, performanceStats.getTickMicros());
+		assertEquals(2048, performanceStats.getAllocationKilobytesPerSecond());
+	}
+
+	@Test
+	public void reports_unavailable_allocation_rate() {
+		Mockito.when(threadWrapper.currentThreadAllocatedBytes()).thenReturn(-1L);
+		runFrames(50);
+		assertEquals(-1, performanceStats.getAllocationKilobytesPerSecond());
+	}
+
+	@Test
+	public void frame_before_first_tick_is_ignored() {
+		performanceStats.frameFinished();
+		runFrames(50);
+		assertEquals(50, performanceStats.getFramesPerSecond());
+	}
+
+	private void runFrames(int frames) {
+		for (int i = 0; i < frames; i++) {
+			performanceStats.tickStarted();
+			clock.advance(2);
+			performanceStats.tickFinished();
+			clock.advance(FRAME_MILLIS - 2);
+			performanceStats.frameFinished();
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import wrappers.SystemWrapper;
+
+public class TickProfilerTest {
+
+	private static final String DOMAIN = "test";
+	private SystemWrapper systemWrapper;
+	private TickProfiler tickProfiler;
+
+	@BeforeEach
+	public void setUp() {
+		systemWrapper = Mockito.mock(SystemWrapper.class);
+		tickProfiler = new TickProfiler(systemWrapper);
+	}
+
+	@Test
+	public void record_measures_from_start_and_returns_the_end() {
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(1000L, 1400L, 2000L);
+		long start = tickProfiler.start();
+		long end = tickProfiler.record(TickPhase.INPUT_DRAIN, start);
+		tickProfiler.record(TickPhase.ENEMY_UPDATE, end);
+
+		assertEquals(1400L, end);
+		assertEquals(400L, tickProfiler.getPhaseStats(TickPhase.INPUT_DRAIN).getMaxNanoseconds());
+		assertEquals(600L, tickProfiler.getPhaseStats(TickPhase.ENEMY_UPDATE).getMaxNanoseconds());
+		assertEquals(0, tickProfiler.getPhaseStats(TickPhase.PAINT).getCount());
+	}
+
+	@Test
+	public void exclusive_phase_subtracts_nested_phase_time() {
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(1000L, 1100L, 1400L, 2000L);
+		long start = tickProfiler.startExclusive();
+		tickProfiler.recordNested(TickPhase.COLLISION, tickProfiler.start());
+		tickProfiler.recordExclusive(TickPhase.ENEMY_UPDATE, start);
+
+		assertEquals(300L, tickProfiler.getPhaseStats(TickPhase.COLLISION).getMaxNanoseconds());
+		assertEquals(700L, tickProfiler.getPhaseStats(TickPhase.ENEMY_UPDATE).getMaxNanoseconds());
+	}
+
+	@Test
+	public void phase_stats_report_percentiles() {
+		PhaseStats phaseStats = tickProfiler.getPhaseStats(TickPhase.PAINT);
+		for (int i = 0; i < 999; i++) {
+			phaseStats.record(10);
+		}
+		phaseStats.record(5000);
+
+		assertEquals(1000, phaseStats.getCount());
+		assertEquals(10, phaseStats.getP50Nanoseconds());
+		assertEquals(10, phaseStats.getP99Nanoseconds());
+		assertEquals(10, phaseStats.getP999Nanoseconds());
+		assertEquals(5000, phaseStats.getMaxNanoseconds());
+		phaseStats.reset();
+		assertEquals(0, phaseStats.getCount());
+	}
+
+	@Test
+	public void registers_one_mbean_per_phase() throws JMException {
+		MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+		Mockito.when(systemWrapper.nanoTime()).thenReturn(0L, 250L);
+		tickProfiler.record(TickPhase.COLLISION, tickProfiler.start());
+
+		tickProfiler.register(mBeanServer, DOMAIN);
+
+		for (TickPhase phase : TickPhase.values()) {
+			assertTrue(mBeanServer.isRegistered(TickProfiler.objectName(DOMAIN, phase)));
+		}
+		assertEquals(250L,
+				mBeanServer.getAttribute(TickProfiler.objectName(DOMAIN, TickPhase.COLLISION), "MaxNanoseconds"));
+		tickProfiler.unregister(mBeanServer, DOMAIN);
+		assertFalse(mBeanServer.isRegistered(TickProfiler.objectName(DOMAIN, TickPhase.COLLISION)));
+	}
+}
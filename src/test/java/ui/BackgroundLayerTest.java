@@ -0,0 +1,87 @@
+package ui;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import engine.GameEngine;
+import tiles.TileGrid;
+import tiles.TileType;
+import values.TileColorMap;
+
+public class BackgroundLayerTest {
+
+	private static final int TILE_SIZE = 4;
+	private GameEngine gameEngine;
+	private TileGrid tiles;
+	private BackgroundLayer backgroundLayer;
+
+	@BeforeEach
+	public void setUp() {
+		gameEngine = Mockito.mock(GameEngine.class);
+		tiles = new TileGrid(3, 2);
+		for (int y = 0; y < 2; y++) {
+			for (int x = 0; x < 3; x++) {
+				tiles.set(x, y, TileType.PASSABLE);
+			}
+		}
+		tiles.set(0, 0, TileType.NOT_PASSABLE);
+		Mockito.when(gameEngine.getTiles()).thenReturn(tiles);
+		Mockito.when(gameEngine.getLevelHorizontalDimension()).thenReturn(3);
+		Mockito.when(gameEngine.getLevelVerticalDimension()).thenReturn(2);
+		Mockito.when(gameEngine.getCoins()).thenReturn(Collections.emptyList());
+		backgroundLayer = new BackgroundLayer(new Panel(), new TilePainter());
+	}
+
+	@Test
+	public void draws_walls_and_floor() {
+		BufferedImage screen = draw();
+		assertThat(screen.getRGB(1, 1), equalTo(TileColorMap.get(TileType.NOT_PASSABLE).getRGB()));
+		assertThat(screen.getRGB(TILE_SIZE + 1, 1), equalTo(TileColorMap.get(TileType.PASSABLE).getRGB()));
+	}
+
+	@Test
+	public void collectibles_do_not_rebuild_the_background() {
+		draw();
+		tiles.set(1, 1, TileType.COIN);
+		BufferedImage screen = draw();
+		assertThat(backgroundLayer.getRebuilds(), equalTo(1));
+		assertThat(screen.getRGB(TILE_SIZE + 1, TILE_SIZE + 1), equalTo(TileColorMap.get(TileType.PASSABLE).getRGB()));
+	}
+
+	@Test
+	public void terrain_changes_rebuild_the_background() {
+		draw();
+		tiles.set(2, 1, TileType.NOT_PASSABLE);
+		BufferedImage screen = draw();
+		assertThat(backgroundLayer.getRebuilds(), equalTo(2));
+		assertThat(screen.getRGB(2 * TILE_SIZE + 1, TILE_SIZE + 1),
+				equalTo(TileColorMap.get(TileType.NOT_PASSABLE).getRGB()));
+	}
+
+	@Test
+	public void draw_cell_copies_only_that_cell() {
+		BufferedImage screen = new BufferedImage(3 * TILE_SIZE, 2 * TILE_SIZE, BufferedImage.TYPE_INT_RGB);
+		Graphics graphics = screen.getGraphics();
+		backgroundLayer.drawCell(graphics, gameEngine, 0, 0, TILE_SIZE, TILE_SIZE);
+		graphics.dispose();
+		assertThat(screen.getRGB(1, 1), equalTo(TileColorMap.get(TileType.NOT_PASSABLE).getRGB()));
+		assertThat(screen.getRGB(TILE_SIZE + 1, 1), equalTo(Color.BLACK.getRGB()));
+		assertThat(screen.getRGB(TILE_SIZE + 1, TILE_SIZE + 1), equalTo(0xFF000000));
+	}
+
+	private BufferedImage draw() {
+		BufferedImage screen = new BufferedImage(3 * TILE_SIZE, 2 * TILE_SIZE, BufferedImage.TYPE_INT_RGB);
+		Graphics graphics = screen.getGraphics();
+		backgroundLayer.draw(graphics, gameEngine, TILE_SIZE, TILE_SIZE);
+		graphics.dispose();
+		return screen;
+	}
+}
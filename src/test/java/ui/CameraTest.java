@@ -0,0 +1,50 @@
+package ui;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class CameraTest {
+
+	private static final int TILE_SIZE = 30;
+	private final Camera camera = new Camera(TILE_SIZE, 300, 200);
+
+	@Test
+	public void centres_on_player() {
+		camera.follow(50, 40, 100, 100);
+		assertThat(camera.getFirstColumn(), equalTo(45));
+		assertThat(camera.getFirstRow(), equalTo(37));
+		assertThat(camera.getLastColumn(), equalTo(55));
+		assertThat(camera.getLastRow(), equalTo(44));
+		assertThat(camera.getOffsetX(), equalTo(45 * TILE_SIZE));
+		assertThat(camera.getOffsetY(), equalTo(37 * TILE_SIZE));
+	}
+
+	@Test
+	public void stays_inside_level_edges() {
+		camera.follow(0, 0, 100, 100);
+		assertThat(camera.getFirstColumn(), equalTo(0));
+		assertThat(camera.getFirstRow(), equalTo(0));
+		camera.follow(99, 99, 100, 100);
+		assertThat(camera.getFirstColumn(), equalTo(90));
+		assertThat(camera.getFirstRow(), equalTo(93));
+		assertThat(camera.getLastColumn(), equalTo(100));
+		assertThat(camera.getLastRow(), equalTo(100));
+	}
+
+	@Test
+	public void shows_whole_level_smaller_than_viewport() {
+		camera.follow(3, 2, 5, 4);
+		assertThat(camera.getFirstColumn(), equalTo(0));
+		assertThat(camera.getFirstRow(), equalTo(0));
+		assertThat(camera.getLastColumn(), equalTo(5));
+		assertThat(camera.getLastRow(), equalTo(4));
+	}
+
+	@Test
+	public void rejects_non_positive_tile_size() {
+		assertThrows(IllegalArgumentException.class, () -> new Camera(0, 300, 200));
+	}
+}
@@ -1,13 +1,18 @@
 package ui;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.Mockito.*;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import engine.GameEngine;
+import timer.PerformanceStats;
 
 class CoinDisplayTest {
 
@@ -26,28 +31,96 @@ class CoinDisplayTest {
 	void to_check_coin_count_in_draw_method() {
 		when(mockGameEngine.getCollectedCoins()).thenReturn(10);
 		coinDisplay.draw(mockGraphics);
-		verify(mockGameEngine, times(1)).getCollectedCoins();
+		verify(mockGameEngine, atLeastOnce()).getCollectedCoins();
+		verify(mockGraphics).drawImage(any(Image.class), eq(50), eq(56), isNull());
 	}
 
 	@Test
-    void to_check_correct_font_and_color_is_used() {
-        when(mockGameEngine.getCollectedCoins()).thenReturn(0);
-        coinDisplay.draw(mockGraphics);
-		verify(mockGraphics).setColor(Color.BLACK);
-    }
+	void to_check_correct_font_and_color_is_used() {
+		when(mockGameEngine.getCollectedCoins()).thenReturn(0);
+		coinDisplay.draw(mockGraphics);
+		BufferedImage drawn = drawnImage();
+		int opaquePixels = 0;
+		for (int y = 0; y < drawn.getHeight(); y++) {
+			for (int x = 0; x < drawn.getWidth(); x++) {
+				int argb = drawn.getRGB(x, y);
+				if (argb >>> 24 != 0) {
+					assertThat(argb, equalTo(Color.BLACK.getRGB()));
+					opaquePixels++;
+				}
+			}
+		}
+		assertThat(opaquePixels > 0, equalTo(true));
+	}
 
 	@Test
 	void to_check_correct_font_is_used() {
 		when(mockGameEngine.getCollectedCoins()).thenReturn(5);
 		coinDisplay.draw(mockGraphics);
-		Font expectedFont = new Font("Arial", Font.BOLD, 20);
-		verify(mockGraphics).setFont(expectedFont);
+		assertSamePixels(expectedImage(32, "Coins Collected: 5"), drawnImage());
 	}
 
 	@Test
 	void to_check_correct_string_is_used() {
 		when(mockGameEngine.getCollectedCoins()).thenReturn(15);
 		coinDisplay.draw(mockGraphics);
-		verify(mockGraphics).drawString("Coins Collected: 15", 50, 80);
+		assertSamePixels(expectedImage(32, "Coins Collected: 15"), drawnImage());
+	}
+
+	@Test
+	void renders_text_only_when_coin_count_changes() {
+		when(mockGameEngine.getCollectedCoins()).thenReturn(3);
+		coinDisplay.draw(mockGraphics);
+		coinDisplay.draw(mockGraphics);
+		assertThat(coinDisplay.getRenders(), equalTo(1));
+		assertThat(coinDisplay.isStale(), equalTo(false));
+		when(mockGameEngine.getCollectedCoins()).thenReturn(4);
+		assertThat(coinDisplay.isStale(), equalTo(true));
+		coinDisplay.draw(mockGraphics);
+		assertThat(coinDisplay.getRenders(), equalTo(2));
+	}
+
+	@Test
+	void shows_performance_readouts_when_stats_are_set() {
+		PerformanceStats performanceStats = mock(PerformanceStats.class);
+		when(performanceStats.getFramesPerSecond()).thenReturn(45);
+		when(performanceStats.getTickMicros()).thenReturn(1250);
+		when(performanceStats.getAllocationKilobytesPerSecond()).thenReturn(-1);
+		coinDisplay.setPerformanceStats(performanceStats);
+		coinDisplay.draw(mockGraphics);
+		assertSamePixels(expectedImage(32 + 3 * 24, "Coins Collected: 0", "FPS: 45", "Tick: 1.25 ms", "Alloc: n/a"),
+				drawnImage());
+		assertThat(coinDisplay.getBounds().height, equalTo(32 + 3 * 24));
+
+		when(performanceStats.getFramesPerSecond()).thenReturn(44);
+		assertThat(coinDisplay.isStale(), equalTo(true));
+	}
+
+	private BufferedImage drawnImage() {
+		ArgumentCaptor<Image> image = ArgumentCaptor.forClass(Image.class);
+		verify(mockGraphics).drawImage(image.capture(), eq(50), eq(56), isNull());
+		return (BufferedImage) image.getValue();
+	}
+
+	private static BufferedImage expectedImage(int height, String... lines) {
+		BufferedImage expected = new BufferedImage(300, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = expected.createGraphics();
+		graphics.setColor(Color.BLACK);
+		graphics.setFont(new Font("Arial", Font.BOLD, 20));
+		for (int i = 0; i < lines.length; i++) {
+			graphics.drawString(lines[i], 0, 24 + i * 24);
+		}
+		graphics.dispose();
+		return expected;
+	}
+
+	private static void assertSamePixels(BufferedImage expected, BufferedImage actual) {
+		assertThat(actual.getWidth(), equalTo(expected.getWidth()));
+		assertThat(actual.getHeight(), equalTo(expected.getHeight()));
+		for (int y = 0; y < expected.getHeight(); y++) {
+			for (int x = 0; x < expected.getWidth(); x++) {
+				assertThat("pixel " + x + "," + y, actual.getRGB(x, y), equalTo(expected.getRGB(x, y)));
+			}
+		}
 	}
 }
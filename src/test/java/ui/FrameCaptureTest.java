@@ -0,0 +1,226 @@
+package ui;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import engine.Enemies;
+import engine.GameEngine;
+import tiles.TileGrid;
+import tiles.TileType;
+import values.TileColorMap;
+
+public class FrameCaptureTest {
+
+	private static final int SIZE = 20;
+	private GameEngine gameEngine;
+	private CoinDisplay coinDisplay;
+
+	@TempDir
+	Path directory;
+
+	@BeforeEach
+	public void setUp() {
+		gameEngine = Mockito.mock(GameEngine.class);
+		TileGrid tiles = new TileGrid(2, 2);
+		tiles.set(0, 0, TileType.NOT_PASSABLE);
+		tiles.set(1, 0, TileType.PASSABLE);
+		tiles.set(0, 1, TileType.PASSABLE);
+		tiles.set(1, 1, TileType.PASSABLE);
+		Mockito.when(gameEngine.getTiles()).thenReturn(tiles);
+		Mockito.when(gameEngine.getEnemies()).thenReturn(new Enemies());
+		Mockito.when(gameEngine.getCoins()).thenReturn(Collections.emptyList());
+		Mockito.when(gameEngine.getPowerUps()).thenReturn(Collections.emptyList());
+		Mockito.when(gameEngine.getLevelHorizontalDimension()).thenReturn(2);
+		Mockito.when(gameEngine.getLevelVerticalDimension()).thenReturn(2);
+		Mockito.when(gameEngine.getPlayerXCoordinate()).thenReturn(1);
+		Mockito.when(gameEngine.getPlayerYCoordinate()).thenReturn(1);
+		coinDisplay = Mockito.mock(CoinDisplay.class);
+	}
+
+	@Test
+	public void encodes_rendered_frames_in_the_background() throws IOException {
+		List<BufferedImage> frames = Collections.synchronizedList(new ArrayList<>());
+		FrameSink sink = new FrameSink() {
+			@Override
+			public void write(long frameNumber, BufferedImage frame) {
+				BufferedImage copy = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_RGB);
+				copy.getGraphics().drawImage(frame, 0, 0, null);
+				frames.add(copy);
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		FrameCapture frameCapture = new FrameCapture(gameEngine, new TilePainter(), coinDisplay, SIZE, SIZE, sink, 2,
+				8);
+		frameCapture.setCaptureInterval(2);
+		for (int i = 0; i < 6; i++) {
+			frameCapture.onTick(gameEngine);
+		}
+		frameCapture.close();
+
+		assertThat(frameCapture.getEncodedFrames(), equalTo(3L));
+		assertThat(frames.size(), equalTo(3));
+		BufferedImage frame = frames.get(0);
+		assertThat(frame.getRGB(1, 1), equalTo(TileColorMap.get(TileType.NOT_PASSABLE).getRGB()));
+		assertThat(frame.getRGB(SIZE - 1, SIZE - 1), equalTo(TileColorMap.get(TileType.PLAYER).getRGB()));
+	}
+
+	@Test
+	public void drops_frames_instead_of_blocking_when_encoders_fall_behind() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		FrameSink sink = new FrameSink() {
+			@Override
+			public void write(long frameNumber, BufferedImage frame) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		FrameCapture frameCapture = new FrameCapture(gameEngine, new TilePainter(), coinDisplay, SIZE, SIZE, sink, 1,
+				1);
+		for (int i = 0; i < 10; i++) {
+			frameCapture.onTick(gameEngine);
+		}
+		assertThat(frameCapture.getCapturedFrames() + frameCapture.getDroppedFrames(), equalTo(10L));
+		assertThat(frameCapture.getCapturedFrames(), equalTo(2L));
+		release.countDown();
+		frameCapture.close();
+		assertThat(frameCapture.getEncodedFrames(), equalTo(2L));
+	}
+
+	@Test
+	public void writes_png_sequence() throws IOException {
+		FrameCapture frameCapture = new FrameCapture(gameEngine, new TilePainter(), coinDisplay, SIZE, SIZE,
+				new PngSequenceSink(directory.resolve("frames")), 2, 4);
+		frameCapture.onTick(gameEngine);
+		frameCapture.onTick(gameEngine);
+		frameCapture.close();
+		BufferedImage first = ImageIO.read(directory.resolve("frames/frame-000000.png").toFile());
+		assertThat(first.getRGB(1, 1), equalTo(TileColorMap.get(TileType.NOT_PASSABLE).getRGB()));
+		assertThat(Files.exists(directory.resolve("frames/frame-000001.png")), equalTo(true));
+	}
+
+	@Test
+	public void writes_animated_gif() throws IOException {
+		Path file = directory.resolve("replay.gif");
+		FrameCapture frameCapture = new FrameCapture(gameEngine, new TilePainter(), coinDisplay, SIZE, SIZE,
+				new AnimatedGifSink(file, 40), 1, 4);
+		for (int i = 0; i < 3; i++) {
+			frameCapture.onTick(gameEngine);
+		}
+		frameCapture.close();
+		try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+			ImageReader reader = ImageIO.getImageReaders(input).next();
+			reader.setInput(input);
+			assertThat(reader.getNumImages(true), equalTo(3));
+			reader.dispose();
+		}
+	}
+
+	@Test
+	public void sequential_sink_gets_frames_in_order_from_one_encoder() throws IOException {
+		List<Long> frameNumbers = Collections.synchronizedList(new ArrayList<>());
+		Set<Thread> encoderThreads = Collections.synchronizedSet(new HashSet<>());
+		FrameSink sink = new FrameSink() {
+			@Override
+			public void write(long frameNumber, BufferedImage frame) {
+				encoderThreads.add(Thread.currentThread());
+				frameNumbers.add(frameNumber);
+			}
+
+			@Override
+			public boolean requiresSequentialWrites() {
+				return true;
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		FrameCapture frameCapture = new FrameCapture(gameEngine, new TilePainter(), coinDisplay, SIZE, SIZE, sink, 4,
+				16);
+		for (int i = 0; i < 8; i++) {
+			frameCapture.onTick(gameEngine);
+		}
+		frameCapture.close();
+
+		assertThat(frameNumbers, contains(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L));
+		assertThat(encoderThreads.size(), equalTo(1));
+	}
+
+	@Test
+	public void level_wider_than_the_capture_renders_a_viewport_around_the_player() throws IOException {
+		TileGrid tiles = new TileGrid(100, 100);
+		for (int x = 0; x < 100; x++) {
+			for (int y = 0; y < 100; y++) {
+				tiles.set(x, y, TileType.NOT_PASSABLE);
+			}
+		}
+		tiles.set(50, 50, TileType.PASSABLE);
+		Mockito.when(gameEngine.getTiles()).thenReturn(tiles);
+		Mockito.when(gameEngine.getLevelHorizontalDimension()).thenReturn(100);
+		Mockito.when(gameEngine.getLevelVerticalDimension()).thenReturn(100);
+		Mockito.when(gameEngine.getPlayerXCoordinate()).thenReturn(50);
+		Mockito.when(gameEngine.getPlayerYCoordinate()).thenReturn(50);
+		List<BufferedImage> frames = Collections.synchronizedList(new ArrayList<>());
+		FrameSink sink = new FrameSink() {
+			@Override
+			public void write(long frameNumber, BufferedImage frame) {
+				BufferedImage copy = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_RGB);
+				copy.getGraphics().drawImage(frame, 0, 0, null);
+				frames.add(copy);
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		FrameCapture frameCapture = new FrameCapture(gameEngine, new TilePainter(), coinDisplay, SIZE, SIZE, sink, 1,
+				1);
+		frameCapture.onTick(gameEngine);
+		frameCapture.close();
+
+		assertThat(frameCapture.getFailedFrames(), equalTo(0L));
+		BufferedImage frame = frames.get(0);
+		assertThat(frame.getRGB(SIZE / 2, SIZE / 2), equalTo(TileColorMap.get(TileType.PLAYER).getRGB()));
+		assertThat(frame.getRGB(0, 0), equalTo(TileColorMap.get(TileType.NOT_PASSABLE).getRGB()));
+	}
+
+	@Test
+	public void rejects_empty_capture_size() {
+		FrameSink sink = Mockito.mock(FrameSink.class);
+		TilePainter tilePainter = new TilePainter();
+		assertThrows(IllegalArgumentException.class,
+				() -> new FrameCapture(gameEngine, tilePainter, coinDisplay, 0, SIZE, sink, 1, 1));
+	}
+}
@@ -0,0 +1,100 @@
+package ui;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import engine.Enemies;
+import engine.GameEngine;
+import tiles.TileGrid;
+import tiles.TileType;
+import values.TileColorMap;
+
+public class GameCanvasTest {
+
+	private static final int TILE_SIZE = 4;
+	private GameEngine gameEngine;
+	private BufferStrategy bufferStrategy;
+	private BufferedImage backBuffer;
+	private GameCanvas gameCanvas;
+
+	@BeforeEach
+	public void setUp() {
+		gameEngine = Mockito.mock(GameEngine.class);
+		TileGrid tiles = new TileGrid(2, 2);
+		tiles.set(0, 0, TileType.NOT_PASSABLE);
+		tiles.set(1, 0, TileType.PASSABLE);
+		tiles.set(0, 1, TileType.PASSABLE);
+		tiles.set(1, 1, TileType.PASSABLE);
+		Mockito.when(gameEngine.getTiles()).thenReturn(tiles);
+		Mockito.when(gameEngine.getEnemies()).thenReturn(new Enemies());
+		Mockito.when(gameEngine.getCoins()).thenReturn(Collections.emptyList());
+		Mockito.when(gameEngine.getPowerUps()).thenReturn(Collections.emptyList());
+		Mockito.when(gameEngine.getLevelHorizontalDimension()).thenReturn(2);
+		Mockito.when(gameEngine.getLevelVerticalDimension()).thenReturn(2);
+		Mockito.when(gameEngine.getPlayerXCoordinate()).thenReturn(1);
+		Mockito.when(gameEngine.getPlayerYCoordinate()).thenReturn(1);
+
+		backBuffer = new BufferedImage(2 * TILE_SIZE, 2 * TILE_SIZE, BufferedImage.TYPE_INT_RGB);
+		bufferStrategy = Mockito.mock(BufferStrategy.class);
+		Mockito.when(bufferStrategy.getDrawGraphics()).thenAnswer(invocation -> backBuffer.createGraphics());
+
+		gameCanvas = Mockito.spy(
+				new GameCanvas(gameEngine, new TilePainter(), Mockito.mock(CoinDisplay.class), 2));
+		Mockito.doReturn(2 * TILE_SIZE).when(gameCanvas).getWidth();
+		Mockito.doReturn(2 * TILE_SIZE).when(gameCanvas).getHeight();
+		Mockito.doNothing().when(gameCanvas).createBufferStrategy(2);
+		Mockito.doReturn(bufferStrategy).when(gameCanvas).getBufferStrategy();
+	}
+
+	@Test
+	public void rejects_unsupported_buffer_counts() {
+		CoinDisplay coinDisplay = Mockito.mock(CoinDisplay.class);
+		TilePainter tilePainter = new TilePainter();
+		assertThrows(IllegalArgumentException.class, () -> new GameCanvas(gameEngine, tilePainter, coinDisplay, 1));
+		assertThrows(IllegalArgumentException.class, () -> new GameCanvas(gameEngine, tilePainter, coinDisplay, 4));
+	}
+
+	@Test
+	public void ignores_repaint_events() {
+		GameCanvas canvas = new GameCanvas(gameEngine, new TilePainter(), Mockito.mock(CoinDisplay.class), 3);
+		assertThat(canvas.getIgnoreRepaint(), equalTo(true));
+	}
+
+	@Test
+	public void present_before_init_does_nothing() {
+		gameCanvas.present();
+		Mockito.verifyNoInteractions(bufferStrategy);
+		assertThat(gameCanvas.getPresentedFrames(), equalTo(0L));
+	}
+
+	@Test
+	public void present_renders_into_back_buffer_and_shows_it() {
+		gameCanvas.init();
+		gameCanvas.present();
+		Mockito.verify(gameCanvas).createBufferStrategy(2);
+		Mockito.verify(bufferStrategy).show();
+		assertThat(gameCanvas.getPresentedFrames(), equalTo(1L));
+		assertThat(backBuffer.getRGB(1, 1), equalTo(TileColorMap.get(TileType.NOT_PASSABLE).getRGB()));
+		assertThat(backBuffer.getRGB(TILE_SIZE + 1, TILE_SIZE + 1),
+				equalTo(TileColorMap.get(TileType.PLAYER).getRGB()));
+	}
+
+	@Test
+	public void present_redraws_when_contents_are_lost() {
+		Mockito.when(bufferStrategy.contentsLost()).thenReturn(true, false);
+		gameCanvas.init();
+		gameCanvas.present();
+		Mockito.verify(bufferStrategy, Mockito.times(2)).getDrawGraphics();
+		Mockito.verify(bufferStrategy, Mockito.times(2)).show();
+	}
+}
@@ -0,0 +1,38 @@
+package ui;
+
+import java.awt.*;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import timer.TickPhase;
+import timer.TickProfiler;
+
+public class GameFrameTest {
+
+	@Test
+	public void present_requests_a_repaint_of_every_component() {
+		Component first = Mockito.mock(Component.class);
+		Component second = Mockito.mock(Component.class);
+		GameFrame gameFrame = Mockito.mock(GameFrame.class, Mockito.CALLS_REAL_METHODS);
+		Mockito.doReturn(new Component[] { first, second }).when(gameFrame).getComponents();
+
+		gameFrame.present();
+
+		Mockito.verify(first).repaint();
+		Mockito.verify(second).repaint();
+	}
+
+	@Test
+	public void present_is_recorded_by_the_tick_profiler() {
+		TickProfiler tickProfiler = Mockito.mock(TickProfiler.class);
+		Mockito.when(tickProfiler.start()).thenReturn(7L);
+		GameFrame gameFrame = Mockito.mock(GameFrame.class, Mockito.CALLS_REAL_METHODS);
+		Mockito.doReturn(new Component[0]).when(gameFrame).getComponents();
+		gameFrame.setTickProfiler(tickProfiler);
+
+		gameFrame.present();
+
+		Mockito.verify(tickProfiler).record(TickPhase.REPAINT_REQUEST, 7L);
+	}
+}
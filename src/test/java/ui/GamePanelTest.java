@@ -3,6 +3,7 @@ package ui;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,7 +13,10 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
 import engine.GameEngine;
-import tiles.TileType;
+import engine.InputCommand;
+import tiles.DirtyCells;
+import timer.TickPhase;
+import timer.TickProfiler;
 
 public class GamePanelTest {
 
@@ -51,16 +55,23 @@ public class GamePanelTest {
 		gamePanel.init();
 		int playerXCoordinate = 2;
 		int playerYCoordinate = 3;
-		Point playerPosition = new Point(playerXCoordinate, playerYCoordinate);
-		Rectangle tileDimensions = new Rectangle(tileWidth, tileHeight);
 		Mockito.when(gameEngine.getPlayerXCoordinate()).thenReturn(playerXCoordinate);
 		Mockito.when(gameEngine.getPlayerYCoordinate()).thenReturn(playerYCoordinate);
 		gamePanel.paint(graphics);
 		Mockito.verify(tilePainter).paintTiles(graphics, gameEngine, tileWidth, tileHeight);
-		Mockito.verify(tilePainter).paintPlayer(graphics, playerPosition, tileDimensions, TileType.PLAYER);
+		Mockito.verify(tilePainter).paintPlayer(graphics, playerXCoordinate, playerYCoordinate, tileWidth, tileHeight);
 		Mockito.verify(mockCoinDisplay).draw(graphics);
 	}
 
+	@Test
+	public void paint_is_recorded_by_the_tick_profiler() {
+		TickProfiler tickProfiler = Mockito.mock(TickProfiler.class);
+		Mockito.when(tickProfiler.start()).thenReturn(42L);
+		gamePanel.setTickProfiler(tickProfiler);
+		gamePanel.paint(Mockito.mock(Graphics.class));
+		Mockito.verify(tickProfiler).record(TickPhase.PAINT, 42L);
+	}
+
 	@Test
 	public void update() {
 		Graphics dbg = Mockito.mock(Graphics.class);
@@ -84,28 +95,93 @@ public class GamePanelTest {
 		Mockito.verify(graphics, Mockito.times(2)).drawImage(dbImage, 0, 0, gamePanel);
 	}
 
+	@Test
+	public void dirty_region_rendering_repaints_only_changed_cells() {
+		DirtyCells changedCells = new DirtyCells();
+		Mockito.when(gameEngine.drainChangesTo(Mockito.any(DirtyCells.class)))
+				.thenAnswer(invocation -> changedCells.drainTo(invocation.getArgument(0)));
+		Mockito.when(mockCoinDisplay.getBounds()).thenReturn(new Rectangle());
+		GamePanel panel = Mockito.spy(gamePanel);
+		Mockito.doReturn(width).when(panel).getWidth();
+		Mockito.doReturn(height).when(panel).getHeight();
+		Mockito.doReturn(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB)).when(panel).createImage(width,
+				height);
+		panel.setDirtyRegionRendering(true);
+		Mockito.verify(gameEngine).trackChanges();
+		Graphics graphics = Mockito.mock(Graphics.class);
+		panel.update(graphics);
+
+		changedCells.mark(1, 2);
+		changedCells.mark(3, 0);
+		Mockito.clearInvocations(panel, tilePainter);
+		panel.repaint();
+		panel.update(graphics);
+
+		Mockito.verify(panel).repaint(0L, tileWidth, 2 * tileHeight, tileWidth, tileHeight);
+		Mockito.verify(panel).repaint(0L, 3 * tileWidth, 0, tileWidth, tileHeight);
+		Mockito.verify(tilePainter).paintCell(Mockito.any(Graphics.class), Mockito.eq(gameEngine), Mockito.eq(1),
+				Mockito.eq(2), Mockito.eq(tileWidth), Mockito.eq(tileHeight));
+		Mockito.verify(tilePainter).paintCell(Mockito.any(Graphics.class), Mockito.eq(gameEngine), Mockito.eq(3),
+				Mockito.eq(0), Mockito.eq(tileWidth), Mockito.eq(tileHeight));
+		Mockito.verify(tilePainter, Mockito.never()).paintTiles(Mockito.any(Graphics.class), Mockito.eq(gameEngine),
+				Mockito.anyInt(), Mockito.anyInt());
+	}
+
+	@Test
+	public void dirty_region_rendering_falls_back_to_full_repaint_for_large_changes() {
+		DirtyCells changedCells = new DirtyCells();
+		Mockito.when(gameEngine.drainChangesTo(Mockito.any(DirtyCells.class)))
+				.thenAnswer(invocation -> changedCells.drainTo(invocation.getArgument(0)));
+		Mockito.when(mockCoinDisplay.getBounds()).thenReturn(new Rectangle());
+		GamePanel panel = Mockito.spy(gamePanel);
+		Mockito.doReturn(width).when(panel).getWidth();
+		Mockito.doReturn(height).when(panel).getHeight();
+		Mockito.doReturn(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB)).when(panel).createImage(width,
+				height);
+		panel.setDirtyRegionRendering(true);
+		Graphics graphics = Mockito.mock(Graphics.class);
+		panel.update(graphics);
+
+		for (int x = 0; x < horizontalDimension; x++) {
+			for (int y = 0; y < 2; y++) {
+				changedCells.mark(x, y);
+			}
+		}
+		Mockito.clearInvocations(panel, tilePainter);
+		panel.repaint();
+		panel.update(graphics);
+
+		Mockito.verify(panel).repaint(Mockito.eq(0L), Mockito.eq(0), Mockito.eq(0), Mockito.anyInt(), Mockito.anyInt());
+		Mockito.verify(tilePainter).paintTiles(Mockito.any(Graphics.class), Mockito.eq(gameEngine),
+				Mockito.eq(tileWidth), Mockito.eq(tileHeight));
+	}
+
 	@Test
 	public void key_left() {
 		gamePanel.keyDown(null, Event.LEFT);
-		Mockito.verify(gameEngine, Mockito.times(1)).keyLeft();
+		Mockito.verify(gameEngine, Mockito.times(1)).submitInput(InputCommand.LEFT);
+		Mockito.verify(gameEngine, Mockito.never()).keyLeft();
 	}
 
 	@Test
 	public void key_right() {
 		gamePanel.keyDown(null, Event.RIGHT);
-		Mockito.verify(gameEngine, Mockito.times(1)).keyRight();
+		Mockito.verify(gameEngine, Mockito.times(1)).submitInput(InputCommand.RIGHT);
+		Mockito.verify(gameEngine, Mockito.never()).keyRight();
 	}
 
 	@Test
 	public void key_up() {
 		gamePanel.keyDown(null, Event.UP);
-		Mockito.verify(gameEngine, Mockito.times(1)).keyUp();
+		Mockito.verify(gameEngine, Mockito.times(1)).submitInput(InputCommand.UP);
+		Mockito.verify(gameEngine, Mockito.never()).keyUp();
 	}
 
 	@Test
 	public void key_down() {
 		gamePanel.keyDown(null, Event.DOWN);
-		Mockito.verify(gameEngine, Mockito.times(1)).keyDown();
+		Mockito.verify(gameEngine, Mockito.times(1)).submitInput(InputCommand.DOWN);
+		Mockito.verify(gameEngine, Mockito.never()).keyDown();
 	}
 
 	@Test
@@ -0,0 +1,117 @@
+package ui;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import engine.Enemies;
+import engine.GameEngine;
+import tiles.TileGrid;
+import tiles.TileType;
+import values.TileColorMap;
+
+public class RasterRendererTest {
+
+	private static final int TILE_SIZE = 8;
+	private GameEngine gameEngine;
+	private TileGrid tiles;
+	private Enemies enemies;
+	private RasterRenderer rasterRenderer;
+
+	@BeforeEach
+	public void setUp() {
+		gameEngine = Mockito.mock(GameEngine.class);
+		tiles = new TileGrid(4, 3);
+		for (int y = 0; y < 3; y++) {
+			for (int x = 0; x < 4; x++) {
+				tiles.set(x, y, TileType.PASSABLE);
+			}
+		}
+		tiles.set(0, 0, TileType.NOT_PASSABLE);
+		tiles.set(2, 0, TileType.COIN);
+		tiles.set(3, 0, TileType.POWER_UP);
+		enemies = new Enemies();
+		enemies.add(1, 2);
+		Mockito.when(gameEngine.getTiles()).thenReturn(tiles);
+		Mockito.when(gameEngine.getEnemies()).thenReturn(enemies);
+		Mockito.when(gameEngine.getLevelHorizontalDimension()).thenReturn(4);
+		Mockito.when(gameEngine.getLevelVerticalDimension()).thenReturn(3);
+		Mockito.when(gameEngine.getPlayerXCoordinate()).thenReturn(3);
+		Mockito.when(gameEngine.getPlayerYCoordinate()).thenReturn(2);
+		rasterRenderer = new RasterRenderer();
+	}
+
+	@Test
+	public void writes_tile_colours_into_the_raster() {
+		BufferedImage image = rasterRenderer.render(gameEngine, TILE_SIZE, TILE_SIZE);
+		assertThat(image.getWidth(), equalTo(4 * TILE_SIZE));
+		assertThat(image.getHeight(), equalTo(3 * TILE_SIZE));
+		assertThat(centre(image, 0, 0), equalTo(color(TileType.NOT_PASSABLE)));
+		assertThat(centre(image, 1, 0), equalTo(color(TileType.PASSABLE)));
+		assertThat(centre(image, 2, 0), equalTo(color(TileType.COIN)));
+		assertThat(image.getRGB(2 * TILE_SIZE, 0), equalTo(color(TileType.PASSABLE)));
+		assertThat(centre(image, 3, 0), equalTo(color(TileType.POWER_UP)));
+		assertThat(centre(image, 1, 2), equalTo(color(TileType.ENEMY)));
+		assertThat(centre(image, 3, 2), equalTo(color(TileType.PLAYER)));
+	}
+
+	@Test
+	public void matches_tile_painter_for_rectangular_tiles() {
+		BufferedImage raster = rasterRenderer.render(gameEngine, TILE_SIZE, TILE_SIZE);
+		BufferedImage painted = new BufferedImage(raster.getWidth(), raster.getHeight(), BufferedImage.TYPE_INT_RGB);
+		Graphics graphics = painted.getGraphics();
+		TilePainter tilePainter = new TilePainter();
+		tilePainter.paintTiles(graphics, gameEngine, TILE_SIZE, TILE_SIZE);
+		tilePainter.paintPlayer(graphics, 3, 2, TILE_SIZE, TILE_SIZE);
+		graphics.dispose();
+		for (int y = 0; y < raster.getHeight(); y++) {
+			for (int x = 0; x < 2 * TILE_SIZE; x++) {
+				assertThat(raster.getRGB(x, y), equalTo(painted.getRGB(x, y)));
+			}
+		}
+	}
+
+	@Test
+	public void enemy_covers_collectible() {
+		enemies.add(2, 0);
+		BufferedImage image = rasterRenderer.render(gameEngine, TILE_SIZE, TILE_SIZE);
+		assertThat(centre(image, 2, 0), equalTo(color(TileType.ENEMY)));
+	}
+
+	@Test
+	public void renders_only_the_requested_region() {
+		BufferedImage image = rasterRenderer.render(gameEngine, TILE_SIZE, TILE_SIZE, 2, 1, 4, 3);
+		assertThat(image.getWidth(), equalTo(2 * TILE_SIZE));
+		assertThat(image.getHeight(), equalTo(2 * TILE_SIZE));
+		assertThat(centre(image, 1, 1), equalTo(color(TileType.PLAYER)));
+		assertThat(centre(image, 0, 0), equalTo(color(TileType.PASSABLE)));
+	}
+
+	@Test
+	public void missing_tiles_show_background() {
+		tiles.set(1, 1, null);
+		rasterRenderer.setBackground(Color.GRAY);
+		BufferedImage image = rasterRenderer.render(gameEngine, TILE_SIZE, TILE_SIZE);
+		assertThat(centre(image, 1, 1), equalTo(Color.GRAY.getRGB()));
+	}
+
+	@Test
+	public void rejects_non_positive_tile_size() {
+		assertThrows(IllegalArgumentException.class, () -> rasterRenderer.render(gameEngine, 0, TILE_SIZE));
+	}
+
+	private static int centre(BufferedImage image, int x, int y) {
+		return image.getRGB(x * TILE_SIZE + TILE_SIZE / 2, y * TILE_SIZE + TILE_SIZE / 2);
+	}
+
+	private static int color(TileType tileType) {
+		return TileColorMap.get(tileType).getRGB();
+	}
+}
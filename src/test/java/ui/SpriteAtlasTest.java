@@ -0,0 +1,80 @@
+package ui;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import tiles.TileType;
+import values.TileColorMap;
+import values.TunableParameters;
+
+public class SpriteAtlasTest {
+
+	private static final int TILE_SIZE = 8;
+
+	@Test
+	public void draws_sprite_for_tile_type() {
+		SpriteAtlas spriteAtlas = SpriteAtlas.fromColors(4);
+		BufferedImage screen = new BufferedImage(2 * TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_RGB);
+		Graphics graphics = screen.getGraphics();
+		spriteAtlas.draw(graphics, TileType.NOT_PASSABLE, 0, 0, TILE_SIZE, TILE_SIZE);
+		spriteAtlas.draw(graphics, TileType.PLAYER, TILE_SIZE, 0, TILE_SIZE, TILE_SIZE);
+		graphics.dispose();
+		assertThat(screen.getRGB(TILE_SIZE / 2, TILE_SIZE / 2),
+				equalTo(TileColorMap.get(TileType.NOT_PASSABLE).getRGB()));
+		assertThat(screen.getRGB(TILE_SIZE + TILE_SIZE / 2, TILE_SIZE / 2),
+				equalTo(TileColorMap.get(TileType.PLAYER).getRGB()));
+	}
+
+	@Test
+	public void draws_a_run_with_one_call_per_strip() {
+		SpriteAtlas spriteAtlas = SpriteAtlas.fromColors(4);
+		int length = 40;
+		BufferedImage screen = new BufferedImage(length * TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_RGB);
+		Graphics graphics = screen.getGraphics();
+		int draws = spriteAtlas.drawRun(graphics, TileType.NOT_PASSABLE, 0, 0, length, TILE_SIZE, TILE_SIZE);
+		graphics.dispose();
+		assertThat(draws, equalTo(2));
+		for (int x = 0; x < length; x++) {
+			assertThat(screen.getRGB(x * TILE_SIZE + TILE_SIZE / 2, TILE_SIZE / 2),
+					equalTo(TileColorMap.get(TileType.NOT_PASSABLE).getRGB()));
+		}
+	}
+
+	@Test
+	public void caches_one_scaled_atlas_per_tile_size() {
+		SpriteAtlas spriteAtlas = SpriteAtlas.fromColors(4);
+		Graphics graphics = new BufferedImage(32, 32, BufferedImage.TYPE_INT_RGB).getGraphics();
+		spriteAtlas.prepare(TILE_SIZE, TILE_SIZE);
+		spriteAtlas.draw(graphics, TileType.COIN, 0, 0, TILE_SIZE, TILE_SIZE);
+		spriteAtlas.draw(graphics, TileType.ENEMY, 0, 0, TILE_SIZE, TILE_SIZE);
+		assertThat(spriteAtlas.getCachedSizes(), equalTo(1));
+		spriteAtlas.draw(graphics, TileType.ENEMY, 0, 0, TILE_SIZE, 2 * TILE_SIZE);
+		spriteAtlas.draw(graphics, TileType.ENEMY, 0, 0, TILE_SIZE, TILE_SIZE);
+		assertThat(spriteAtlas.getCachedSizes(), equalTo(2));
+	}
+
+	@Test
+	public void rejects_sheet_without_one_sprite_per_tile_type() {
+		BufferedImage sheet = new BufferedImage(TileType.values().length * 4 + 1, 4, BufferedImage.TYPE_INT_ARGB);
+		assertThrows(IllegalArgumentException.class, () -> new SpriteAtlas(sheet));
+	}
+
+	@Test
+	public void rejects_non_positive_tile_size() {
+		SpriteAtlas spriteAtlas = SpriteAtlas.fromColors(4);
+		assertThrows(IllegalArgumentException.class, () -> spriteAtlas.prepare(0, TILE_SIZE));
+	}
+
+	@Test
+	public void loads_bundled_sprite_sheet() {
+		SpriteAtlas spriteAtlas = SpriteAtlas.fromFile(TunableParameters.SPRITE_SHEET_LOCATION);
+		spriteAtlas.prepare(TILE_SIZE, TILE_SIZE);
+		assertThat(spriteAtlas.getCachedSizes(), equalTo(1));
+	}
+}
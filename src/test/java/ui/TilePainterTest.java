@@ -1,15 +1,21 @@
 package ui;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
 import static org.mockito.Mockito.*;
 
 import java.awt.*;
+import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 
-import engine.Enemy;
+import engine.Coin;
+import engine.Enemies;
 import engine.GameEngine;
+import tiles.TileGrid;
 import tiles.TileType;
 import values.TileColorMap;
 
@@ -26,13 +32,16 @@ public class TilePainterTest {
 	GameEngine gameEngine;
 	@InjectMocks
 	TilePainter tilePainter;
-	private Enemy enemy;
+	private Enemies enemies;
+	private TileGrid tiles;
 
 	@BeforeEach
 	public void setUp() {
 		MockitoAnnotations.openMocks(this);
-		enemy = mock(Enemy.class);
-		when(gameEngine.getEnemy()).thenReturn(enemy);
+		enemies = new Enemies();
+		tiles = new TileGrid();
+		when(gameEngine.getEnemies()).thenReturn(enemies);
+		when(gameEngine.getTiles()).thenReturn(tiles);
 		when(gameEngine.getLevelHorizontalDimension()).thenReturn(X);
 		when(gameEngine.getLevelVerticalDimension()).thenReturn(Y);
 	}
@@ -41,26 +50,31 @@ public class TilePainterTest {
 	public void paint_tiles() {
 		GameEngine gameEngine = Mockito.mock(GameEngine.class);
 		Graphics graphics = Mockito.mock(Graphics.class);
+		TileGrid tiles = new TileGrid(X, Y);
+		for (int y = 0; y < Y; y++) {
+			for (int x = 0; x < X; x++) {
+				tiles.set(x, y, TileType.PASSABLE);
+			}
+		}
+		tiles.set(1, 1, TileType.NOT_PASSABLE);
 		Mockito.when(gameEngine.getLevelHorizontalDimension()).thenReturn(X);
 		Mockito.when(gameEngine.getLevelVerticalDimension()).thenReturn(Y);
-		Mockito.when(gameEngine.getTileFromCoordinates(1, 1)).thenReturn(TileType.NOT_PASSABLE);
-		Mockito.when(gameEngine.getTileFromCoordinates(AdditionalMatchers.not(ArgumentMatchers.eq(1)),
-				AdditionalMatchers.not(ArgumentMatchers.eq(1)))).thenReturn(TileType.PASSABLE);
-		Enemy enemy = Mockito.mock(Enemy.class);
-		Mockito.when(gameEngine.getEnemy()).thenReturn(enemy);
-		Mockito.when(enemy.getX()).thenReturn(1);
-		Mockito.when(enemy.getY()).thenReturn(1);
+		Mockito.when(gameEngine.getTiles()).thenReturn(tiles);
+		Enemies enemies = new Enemies();
+		enemies.add(1, 1);
+		Mockito.when(gameEngine.getEnemies()).thenReturn(enemies);
 		TilePainter tilePainter = new TilePainter();
 		tilePainter.paintTiles(graphics, gameEngine, TILE_WIDTH, TILE_HEIGHT);
 		InOrder inOrder = Mockito.inOrder(graphics);
 		inOrder.verify(graphics).setColor(TileColorMap.get(TileType.PASSABLE));
-		inOrder.verify(graphics).fillRect(0, 0, 10, 20);
+		inOrder.verify(graphics).fillRect(0, 0, 20, 20);
 		inOrder.verify(graphics).fillRect(0, 20, 10, 20);
-		inOrder.verify(graphics).fillRect(0, 40, 10, 20);
-		inOrder.verify(graphics).fillRect(10, 0, 10, 20);
+		inOrder.verify(graphics).fillRect(0, 40, 20, 20);
 		inOrder.verify(graphics).setColor(TileColorMap.get(TileType.NOT_PASSABLE));
 		inOrder.verify(graphics).fillRect(10, 20, 10, 20);
-		inOrder.verify(graphics).fillRect(10, 40, 10, 20);
+		inOrder.verify(graphics).setColor(Color.RED);
+		inOrder.verify(graphics).fillRect(10, 20, 10, 20);
+		verify(graphics, times(3)).setColor(any(Color.class));
 
 	}
 
@@ -68,12 +82,13 @@ public class TilePainterTest {
 	public void paint_tiles_includes_coin() {
 		GameEngine gameEngine = Mockito.mock(GameEngine.class);
 		Graphics graphics = Mockito.mock(Graphics.class);
+		TileGrid tiles = new TileGrid();
+		Mockito.when(gameEngine.getTiles()).thenReturn(tiles);
 		Mockito.when(gameEngine.getLevelHorizontalDimension()).thenReturn(2);
 		Mockito.when(gameEngine.getLevelVerticalDimension()).thenReturn(2);
-		Mockito.when(gameEngine.getTileFromCoordinates(0, 0)).thenReturn(TileType.COIN);
-		Mockito.when(gameEngine.getTileFromCoordinates(1, 1)).thenReturn(TileType.PASSABLE);
-		Enemy enemy = Mockito.mock(Enemy.class);
-		Mockito.when(gameEngine.getEnemy()).thenReturn(enemy);
+		tiles.set(0, 0, TileType.COIN);
+		tiles.set(1, 1, TileType.PASSABLE);
+		Mockito.when(gameEngine.getEnemies()).thenReturn(new Enemies());
 		TilePainter tilePainter = new TilePainter();
 		tilePainter.paintTiles(graphics, gameEngine, 10, 10);
 		Mockito.verify(graphics).setColor(TileColorMap.get(TileType.COIN));
@@ -84,13 +99,14 @@ public class TilePainterTest {
 	public void paint_tiles_includes_enemy() {
 		GameEngine gameEngine = Mockito.mock(GameEngine.class);
 		Graphics graphics = Mockito.mock(Graphics.class);
+		TileGrid tiles = new TileGrid();
+		Mockito.when(gameEngine.getTiles()).thenReturn(tiles);
 		Mockito.when(gameEngine.getLevelHorizontalDimension()).thenReturn(2);
 		Mockito.when(gameEngine.getLevelVerticalDimension()).thenReturn(2);
-		Mockito.when(gameEngine.getTileFromCoordinates(1, 1)).thenReturn(TileType.PASSABLE);
-		Enemy enemy = Mockito.mock(Enemy.class);
-		Mockito.when(gameEngine.getEnemy()).thenReturn(enemy);
-		Mockito.when(enemy.getX()).thenReturn(1);
-		Mockito.when(enemy.getY()).thenReturn(1);
+		tiles.set(1, 1, TileType.PASSABLE);
+		Enemies enemies = new Enemies();
+		enemies.add(1, 1);
+		Mockito.when(gameEngine.getEnemies()).thenReturn(enemies);
 		TilePainter tilePainter = new TilePainter();
 		tilePainter.paintTiles(graphics, gameEngine, 10, 10);
 		InOrder inOrder = Mockito.inOrder(graphics);
@@ -102,27 +118,37 @@ public class TilePainterTest {
 
 	@Test
 	public void paint_player() {
-		Point playerPosition = new Point(X, Y);
-		Rectangle tileDimensions = new Rectangle(TILE_WIDTH, TILE_HEIGHT);
-
-		tilePainter.paintPlayer(graphics, playerPosition, tileDimensions, TileType.PLAYER);
+		tilePainter.paintPlayer(graphics, X, Y, TILE_WIDTH, TILE_HEIGHT);
 
+		verify(graphics).setColor(TileColorMap.get(TileType.PLAYER));
 		verify(graphics).fillRect(20, 60, TILE_WIDTH, TILE_HEIGHT);
 	}
 
 	@Test
 	public void paint_coin() {
-		tilePainter.paintCoin(graphics, new Rectangle(X * TILE_WIDTH, Y * TILE_HEIGHT, TILE_WIDTH, TILE_HEIGHT));
+		tiles.set(X, Y, TileType.COIN);
+
+		tilePainter.paintDynamicCell(graphics, gameEngine, X, Y, TILE_WIDTH, TILE_HEIGHT);
 
 		verify(graphics).setColor(Color.YELLOW);
 		verify(graphics).fillOval(X * TILE_WIDTH, Y * TILE_HEIGHT, TILE_WIDTH, TILE_HEIGHT);
 	}
 
+	@Test
+	public void dirty_cell_painting_counts_draw_calls() {
+		tiles.set(X, Y, TileType.COIN);
+		enemies.add(X, Y);
+
+		tilePainter.paintDynamicCell(graphics, gameEngine, X, Y, TILE_WIDTH, TILE_HEIGHT);
+		tilePainter.paintPlayer(graphics, X, Y, TILE_WIDTH, TILE_HEIGHT);
+
+		assertThat(tilePainter.getDrawCalls(), equalTo(6));
+	}
+
 	@Test
 		public void paint_enemy() {
-			when(gameEngine.getTileFromCoordinates(0, 0)).thenReturn(TileType.ENEMY);
-			when(enemy.getX()).thenReturn(0);
-			when(enemy.getY()).thenReturn(0);
+			tiles.set(0, 0, TileType.ENEMY);
+			enemies.add(0, 0);
 
 			tilePainter.paintTiles(graphics, gameEngine, TILE_WIDTH, TILE_HEIGHT);
 
@@ -132,30 +158,34 @@ public class TilePainterTest {
 		}
 
 	@Test
-		public void paint_tiles_correctly_calls_paintCoin() {
-			when(gameEngine.getTileFromCoordinates(0, 0)).thenReturn(TileType.COIN);
+		public void paint_tiles_correctly_paints_coin() {
+			tiles.set(0, 0, TileType.COIN);
 
-			TilePainter spyTilePainter = spy(new TilePainter());
-			spyTilePainter.paintTiles(graphics, gameEngine, TILE_WIDTH, TILE_HEIGHT);
+			tilePainter.paintTiles(graphics, gameEngine, TILE_WIDTH, TILE_HEIGHT);
 
-			verify(spyTilePainter).paintCoin(graphics, new Rectangle(0, 0, TILE_WIDTH, TILE_HEIGHT));
+			InOrder inOrder = inOrder(graphics);
+			inOrder.verify(graphics).setColor(Color.YELLOW);
+			inOrder.verify(graphics).fillOval(0, 0, TILE_WIDTH, TILE_HEIGHT);
 		}
 
 	@Test
-		public void paint_tiles_correctly_calls_paintEnemy() {
-			when(gameEngine.getTileFromCoordinates(0, 0)).thenReturn(TileType.ENEMY);
-			when(gameEngine.getTileFromCoordinates(1, 1)).thenReturn(TileType.NOT_PASSABLE);
+		public void paint_tiles_correctly_paints_enemy() {
+			tiles.set(0, 0, TileType.ENEMY);
+			tiles.set(1, 1, TileType.NOT_PASSABLE);
+			enemies.add(0, 0);
 
-			TilePainter spyTilePainter = spy(new TilePainter());
-			spyTilePainter.paintTiles(graphics, gameEngine, TILE_WIDTH, TILE_HEIGHT);
+			tilePainter.paintTiles(graphics, gameEngine, TILE_WIDTH, TILE_HEIGHT);
 
-			verify(spyTilePainter).paintEnemy(graphics, new Rectangle(0, 0, TILE_WIDTH, TILE_HEIGHT));
+			InOrder inOrder = inOrder(graphics);
+			inOrder.verify(graphics).setColor(TileColorMap.get(TileType.NOT_PASSABLE));
+			inOrder.verify(graphics).setColor(Color.RED);
+			inOrder.verify(graphics).fillRect(0, 0, TILE_WIDTH, TILE_HEIGHT);
 		}
 
 	@Test
 		public void paint_tiles_other_tile_types() {
-			when(gameEngine.getTileFromCoordinates(0, 0)).thenReturn(TileType.PASSABLE);
-			when(gameEngine.getTileFromCoordinates(1, 0)).thenReturn(TileType.NOT_PASSABLE);
+			tiles.set(0, 0, TileType.PASSABLE);
+			tiles.set(1, 0, TileType.NOT_PASSABLE);
 
 			tilePainter.paintTiles(graphics, gameEngine, TILE_WIDTH, TILE_HEIGHT);
 
@@ -168,7 +198,9 @@ public class TilePainterTest {
 
 	@Test
 	public void paint_power_up() {
-		tilePainter.paintPowerUp(graphics, new Rectangle(X * TILE_WIDTH, Y * TILE_HEIGHT, TILE_WIDTH, TILE_HEIGHT));
+		tiles.set(X, Y, TileType.POWER_UP);
+
+		tilePainter.paintDynamicCell(graphics, gameEngine, X, Y, TILE_WIDTH, TILE_HEIGHT);
 
 		verify(graphics).setColor(Color.BLUE);
 		verify(graphics).fillOval(X * TILE_WIDTH, Y * TILE_HEIGHT, TILE_WIDTH, TILE_HEIGHT);
@@ -178,12 +210,13 @@ public class TilePainterTest {
 	public void paint_tiles_includes_powerUp() {
 		GameEngine gameEngine = Mockito.mock(GameEngine.class);
 		Graphics graphics = Mockito.mock(Graphics.class);
+		TileGrid tiles = new TileGrid();
+		Mockito.when(gameEngine.getTiles()).thenReturn(tiles);
 		Mockito.when(gameEngine.getLevelHorizontalDimension()).thenReturn(2);
 		Mockito.when(gameEngine.getLevelVerticalDimension()).thenReturn(2);
-		Mockito.when(gameEngine.getTileFromCoordinates(0, 0)).thenReturn(TileType.POWER_UP);
-		Mockito.when(gameEngine.getTileFromCoordinates(1, 1)).thenReturn(TileType.PASSABLE);
-		Enemy enemy = Mockito.mock(Enemy.class);
-		Mockito.when(gameEngine.getEnemy()).thenReturn(enemy);
+		tiles.set(0, 0, TileType.POWER_UP);
+		tiles.set(1, 1, TileType.PASSABLE);
+		Mockito.when(gameEngine.getEnemies()).thenReturn(new Enemies());
 		TilePainter tilePainter = new TilePainter();
 		tilePainter.paintTiles(graphics, gameEngine, 10, 10);
 		Mockito.verify(graphics).setColor(Color.BLUE);
@@ -191,28 +224,119 @@ public class TilePainterTest {
 	}
 
 	@Test
-	public void paint_tiles_correctly_calls_paintPowerUp() {
-		when(gameEngine.getTileFromCoordinates(0, 0)).thenReturn(TileType.POWER_UP);
+	public void paint_tiles_correctly_paints_powerUp() {
+		tiles.set(0, 0, TileType.POWER_UP);
 
-		TilePainter spyTilePainter = spy(new TilePainter());
-		spyTilePainter.paintTiles(graphics, gameEngine, TILE_WIDTH, TILE_HEIGHT);
+		tilePainter.paintTiles(graphics, gameEngine, TILE_WIDTH, TILE_HEIGHT);
 
-		verify(spyTilePainter).paintPowerUp(graphics, new Rectangle(0, 0, TILE_WIDTH, TILE_HEIGHT));
+		InOrder inOrder = inOrder(graphics);
+		inOrder.verify(graphics).setColor(Color.BLUE);
+		inOrder.verify(graphics).fillOval(0, 0, TILE_WIDTH, TILE_HEIGHT);
 	}
 
 	@Test
 	public void paintPowerUp_does_not_paint_for_nonPowerUpTiles() {
 		GameEngine gameEngine = Mockito.mock(GameEngine.class);
 		Graphics graphics = Mockito.mock(Graphics.class);
+		TileGrid tiles = new TileGrid();
+		Mockito.when(gameEngine.getTiles()).thenReturn(tiles);
 		Mockito.when(gameEngine.getLevelHorizontalDimension()).thenReturn(2);
 		Mockito.when(gameEngine.getLevelVerticalDimension()).thenReturn(2);
-		Mockito.when(gameEngine.getTileFromCoordinates(0, 0)).thenReturn(TileType.PASSABLE);
-		Enemy enemy = Mockito.mock(Enemy.class);
-		Mockito.when(gameEngine.getEnemy()).thenReturn(enemy);
+		tiles.set(0, 0, TileType.PASSABLE);
+		Mockito.when(gameEngine.getEnemies()).thenReturn(new Enemies());
 		TilePainter tilePainter = new TilePainter();
 		tilePainter.paintTiles(graphics, gameEngine, 10, 10);
 		verify(graphics, times(0)).setColor(Color.BLUE);
 		verify(graphics, times(0)).fillOval(anyInt(), anyInt(), anyInt(), anyInt());
 	}
 
+	@Test
+	public void paint_dynamic_layer_skips_terrain() {
+		tiles.set(0, 0, TileType.NOT_PASSABLE);
+		tiles.set(1, 0, TileType.COIN);
+		enemies.add(1, 2);
+		when(gameEngine.getCoins()).thenReturn(Collections.singletonList(new Coin(1, 0)));
+
+		tilePainter.paintDynamicLayer(graphics, gameEngine, TILE_WIDTH, TILE_HEIGHT);
+
+		verify(graphics).fillOval(TILE_WIDTH, 0, TILE_WIDTH, TILE_HEIGHT);
+		verify(graphics).fillRect(TILE_WIDTH, 2 * TILE_HEIGHT, TILE_WIDTH, TILE_HEIGHT);
+		verify(graphics, never()).setColor(TileColorMap.get(TileType.NOT_PASSABLE));
+	}
+
+	@Test
+	public void paint_tiles_merges_runs_on_open_floor_level() {
+		int width = 20;
+		int height = 10;
+		TileGrid level = new TileGrid(width, height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				boolean wall = x == 0 || y == 0 || x == width - 1 || y == height - 1;
+				level.set(x, y, wall ? TileType.NOT_PASSABLE : TileType.PASSABLE);
+			}
+		}
+		for (int i = 1; i <= 8; i++) {
+			level.set(i * 2, i, TileType.COIN);
+		}
+		when(gameEngine.getTiles()).thenReturn(level);
+		when(gameEngine.getLevelHorizontalDimension()).thenReturn(width);
+		when(gameEngine.getLevelVerticalDimension()).thenReturn(height);
+
+		tilePainter.paintTiles(graphics, gameEngine, TILE_WIDTH, TILE_HEIGHT);
+
+		int perCellCalls = 2 * width * height;
+		assertThat(tilePainter.getDrawCalls() * 10, lessThan(perCellCalls));
+		verify(graphics).fillRect(0, 0, width * TILE_WIDTH, TILE_HEIGHT);
+	}
+
+	@Test
+	public void paint_tiles_blits_one_sprite_strip_per_run_when_atlas_is_set() {
+		TileGrid level = new TileGrid(X, Y);
+		for (int y = 0; y < Y; y++) {
+			for (int x = 0; x < X; x++) {
+				level.set(x, y, TileType.PASSABLE);
+			}
+		}
+		level.set(0, 0, TileType.COIN);
+		when(gameEngine.getTiles()).thenReturn(level);
+		tilePainter.setSpriteAtlas(SpriteAtlas.fromColors(4));
+
+		tilePainter.paintTiles(graphics, gameEngine, TILE_WIDTH, TILE_HEIGHT);
+
+		verify(graphics, times(Y + 1)).drawImage(any(Image.class), anyInt(), anyInt(), anyInt(), anyInt(),
+				anyInt(), anyInt(), anyInt(), anyInt(), isNull());
+		verify(graphics, never()).fillRect(anyInt(), anyInt(), anyInt(), anyInt());
+		verify(graphics, never()).fillOval(anyInt(), anyInt(), anyInt(), anyInt());
+		verify(graphics, never()).setColor(any(Color.class));
+	}
+
+	@Test
+	public void paint_tiles_in_region_costs_the_same_on_any_level_size() {
+		assertThat(paintVisibleRegion(20, 10), equalTo(paintVisibleRegion(2000, 1000)));
+	}
+
+	@Test
+	public void paint_tiles_in_region_only_reads_visible_cells() {
+		TileGrid level = Mockito.spy(new TileGrid(50, 50));
+		when(gameEngine.getTiles()).thenReturn(level);
+		tilePainter.paintTiles(graphics, gameEngine, TILE_WIDTH, TILE_HEIGHT, 10, 20, 14, 23);
+		verify(level, times(12)).get(anyInt(), anyInt());
+	}
+
+	private int paintVisibleRegion(int width, int height) {
+		TileGrid level = new TileGrid(width, height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				level.set(x, y, (x + y) % 3 == 0 ? TileType.NOT_PASSABLE : TileType.PASSABLE);
+			}
+		}
+		when(gameEngine.getTiles()).thenReturn(level);
+		when(gameEngine.getLevelHorizontalDimension()).thenReturn(width);
+		when(gameEngine.getLevelVerticalDimension()).thenReturn(height);
+		Camera camera = new Camera(TILE_WIDTH, 200, 100);
+		camera.follow(width / 2, height / 2, width, height);
+		tilePainter.paintTiles(graphics, gameEngine, TILE_WIDTH, TILE_WIDTH, camera.getFirstColumn(),
+				camera.getFirstRow(), camera.getLastColumn(), camera.getLastRow());
+		return tilePainter.getDrawCalls();
+	}
 }
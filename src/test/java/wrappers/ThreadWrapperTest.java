@@ -94,4 +94,31 @@ public class ThreadWrapperTest {
 		assertTrue(Thread.interrupted(), "Thread should remain interrupted even after calling currentThreadInterrupt");
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void current_thread_allocated_bytes_grow_with_allocation() {
+		long before = threadWrapper.currentThreadAllocatedBytes();
+		byte[] allocation = new byte[1 << 20];
+		long after = threadWrapper.currentThreadAllocatedBytes();
+		assertEquals(1 << 20, allocation.length);
+		assertTrue(before < 0 || after - before >= allocation.length,
+				"Allocated bytes should cover a fresh allocation when supported");
+	}
+
+	@Test
+	public void park_nanos_returns_after_timeout() {
+		long start = System.nanoTime();
+		threadWrapper.parkNanos(1000000);
+		assertTrue(System.nanoTime() - start >= 1000000);
+	}
+
+	@Test
+	public void park_nanos_returns_early_when_interrupted() {
+		Thread.currentThread().interrupt();
+		long start = System.nanoTime();
+		threadWrapper.parkNanos(5000000000L);
+		assertTrue(System.nanoTime() - start < 5000000000L);
+		assertTrue(threadWrapper.interrupted());
+		assertFalse(threadWrapper.interrupted());
+	}
+
+}